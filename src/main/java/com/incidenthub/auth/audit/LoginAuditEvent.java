@@ -0,0 +1,13 @@
+package com.incidenthub.auth.audit;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class LoginAuditEvent {
+    String username;
+    boolean success;
+    String reason;
+    Instant occurredAt;
+}
@@ -0,0 +1,198 @@
+package com.incidenthub.auth.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous login audit trail. {@link #record} only enqueues into a bounded lock-free buffer;
+ * events are written to {@code login_audit} in multi-row inserts once a batch fills up or the
+ * flush interval elapses, and the buffer is drained on shutdown.
+ *
+ * <p>Above the sampling watermark only a fraction of successful logins is kept, failures are
+ * always kept; once the buffer is full every new event is dropped. Both are counted.
+ *
+ * <p>Draining and statement building run on a worker thread, never on the thread of the login
+ * that crossed the batch threshold. Usernames and reasons are cut to the column width so one
+ * oversized value cannot fail the whole multi-row insert.
+ */
+@Component
+public class LoginAuditor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAuditor.class);
+
+    static final int MAX_COLUMN_LENGTH = 255;
+
+    private final DatabaseClient databaseClient;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final int samplingWatermark;
+    private final double successSampleRate;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+
+    private final Queue<LoginAuditEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Counter dropped;
+    private final Counter sampledOut;
+    private final Counter failedWrites;
+
+    private volatile Disposable ticker;
+
+    public LoginAuditor(DatabaseClient databaseClient, MeterRegistry meterRegistry,
+                        @Value("${incidenthub.audit.enabled:true}") boolean enabled,
+                        @Value("${incidenthub.audit.capacity:10000}") int capacity,
+                        @Value("${incidenthub.audit.batch-size:200}") int batchSize,
+                        @Value("${incidenthub.audit.sampling-watermark:0.75}") double samplingWatermark,
+                        @Value("${incidenthub.audit.success-sample-rate:0.1}") double successSampleRate,
+                        @Value("${incidenthub.audit.flush-interval:1s}") Duration flushInterval,
+                        @Value("${incidenthub.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.databaseClient = databaseClient;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.samplingWatermark = (int) (capacity * samplingWatermark);
+        this.successSampleRate = successSampleRate;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.dropped = meterRegistry.counter("auth.audit.events", "outcome", "dropped");
+        this.sampledOut = meterRegistry.counter("auth.audit.events", "outcome", "sampled_out");
+        this.failedWrites = meterRegistry.counter("auth.audit.events", "outcome", "write_failed");
+    }
+
+    public void record(String username, boolean success, String reason) {
+        if (!enabled) {
+            return;
+        }
+        int queued = size.get();
+        if (success && queued >= samplingWatermark && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+            sampledOut.increment();
+            return;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        buffer.offer(new LoginAuditEvent(truncate(username), success, truncate(reason), Instant.now()));
+        if (queued + 1 >= batchSize) {
+            triggerFlush();
+        }
+    }
+
+    /**
+     * Writes everything currently buffered. Completes once the buffer has been drained.
+     */
+    public Mono<Void> flush() {
+        return Mono.defer(() -> {
+            List<LoginAuditEvent> batch = drain();
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+            return insert(batch).then(flush());
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void start() {
+        if (enabled) {
+            ticker = Flux.interval(flushInterval)
+                    .onBackpressureDrop()
+                    .subscribe(tick -> triggerFlush());
+        }
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = ticker;
+        ticker = null;
+        if (current != null) {
+            current.dispose();
+        }
+        flush().block(shutdownTimeout);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    // Stop after the web server so that logins still in flight during graceful shutdown are flushed.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void triggerFlush() {
+        if (flushing.compareAndSet(false, true)) {
+            flush().doFinally(signal -> flushing.set(false)).subscribe();
+        }
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_COLUMN_LENGTH ? value : value.substring(0, MAX_COLUMN_LENGTH);
+    }
+
+    private List<LoginAuditEvent> drain() {
+        List<LoginAuditEvent> batch = new ArrayList<>(Math.min(batchSize, size.get()));
+        LoginAuditEvent event;
+        while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+            batch.add(event);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private Mono<Void> insert(List<LoginAuditEvent> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO login_audit (username, success, reason, occurred_at) VALUES ");
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:username").append(i)
+                    .append(", :success").append(i)
+                    .append(", :reason").append(i)
+                    .append(", :occurredAt").append(i)
+                    .append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < batch.size(); i++) {
+            LoginAuditEvent event = batch.get(i);
+            spec = event.getUsername() != null
+                    ? spec.bind("username" + i, event.getUsername())
+                    : spec.bindNull("username" + i, String.class);
+            spec = spec.bind("success" + i, event.isSuccess());
+            spec = event.getReason() != null
+                    ? spec.bind("reason" + i, event.getReason())
+                    : spec.bindNull("reason" + i, String.class);
+            spec = spec.bind("occurredAt" + i, event.getOccurredAt());
+        }
+        return spec.then()
+                .onErrorResume(e -> {
+                    failedWrites.increment(batch.size());
+                    log.warn("Failed to write {} login audit events", batch.size(), e);
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,243 @@
+package com.incidenthub.auth.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Spreads user-service calls across the replicas listed in {@code incidenthub.user-service.url}.
+ *
+ * <p>Requests are built against {@link #getBaseUrl()} and rewritten here to the replica with the
+ * fewest outstanding requests. Replicas that fail repeatedly (connection errors, 5xx, or losing
+ * to a hedged request) are ejected for a while. When hedging is enabled, an idempotent request that has not answered
+ * within the configured latency percentile of its replica is also sent to a second replica, and
+ * whichever answers first wins. Streaming or bulk requests opt out of hedging with the {@link #NO_HEDGE} attribute.
+ */
+@Component
+public class UserServiceLoadBalancer implements ExchangeFilterFunction {
+
+    /**
+     * Request attribute that, when {@code true}, sends the request to a single replica even if hedging is enabled.
+     */
+    public static final String NO_HEDGE = UserServiceLoadBalancer.class.getName() + ".noHedge";
+
+    private final List<Endpoint> endpoints;
+    private final String baseUrl;
+    private final boolean hedgingEnabled;
+    private final double hedgePercentile;
+    private final long hedgeMinDelayNanos;
+    private final int ejectionFailures;
+    private final long ejectionNanos;
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    public UserServiceLoadBalancer(@Value("${incidenthub.user-service.url}") String urls,
+                                   @Value("${incidenthub.user-service.hedging.enabled:false}") boolean hedgingEnabled,
+                                   @Value("${incidenthub.user-service.hedging.percentile:0.95}") double hedgePercentile,
+                                   @Value("${incidenthub.user-service.hedging.min-delay:20ms}") Duration hedgeMinDelay,
+                                   @Value("${incidenthub.user-service.ejection.failures:5}") int ejectionFailures,
+                                   @Value("${incidenthub.user-service.ejection.duration:30s}") Duration ejectionDuration) {
+        this.endpoints = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(url -> new Endpoint(url.endsWith("/") ? url.substring(0, url.length() - 1) : url))
+                .toList();
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one user-service URL is required");
+        }
+        this.baseUrl = endpoints.get(0).url;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeMinDelayNanos = hedgeMinDelay.toNanos();
+        this.ejectionFailures = ejectionFailures;
+        this.ejectionNanos = ejectionDuration.toNanos();
+    }
+
+    /**
+     * Base URL that clients using this filter should be built with; requests are rerouted from it.
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public List<String> getEndpointUrls() {
+        return endpoints.stream().map(endpoint -> endpoint.url).toList();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Endpoint primary = choose(null);
+        if (!hedgingEnabled || endpoints.size() < 2 || !isIdempotent(request.method()) || optsOutOfHedging(request)) {
+            return send(primary, request, next);
+        }
+        return hedge(primary, request, next);
+    }
+
+    /**
+     * Races the primary against a delayed request to a second replica. Only one response can win;
+     * a response that arrives after the winner is released so its connection returns to the pool.
+     * A primary that loses to its hedge is cancelled before it reaches {@code onSuccess} or
+     * {@code onFailure}, so it is counted as slow here; when both attempts fail the caller sees the
+     * primary's error rather than the race's aggregate one.
+     */
+    private Mono<ClientResponse> hedge(Endpoint primary, ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicReference<ClientResponse> winner = new AtomicReference<>();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Mono<ClientResponse> primaryResponse = claim(send(primary, request, next), winner)
+                    .doOnError(primaryError::set);
+            Mono<ClientResponse> hedgedResponse = Mono.delay(Duration.ofNanos(hedgeDelayNanos(primary)))
+                    .flatMap(tick -> {
+                        Endpoint secondary = choose(primary);
+                        return secondary == primary ? Mono.<ClientResponse>empty()
+                                : claim(send(secondary, request, next), winner);
+                    })
+                    .doOnNext(response -> {
+                        if (primaryError.get() == null) {
+                            primary.onSlow(System.nanoTime() - start, ejectionFailures, ejectionNanos);
+                        }
+                    });
+            return Mono.firstWithValue(primaryResponse, hedgedResponse)
+                    .onErrorMap(e -> primaryError.get() != null ? primaryError.get() : e)
+                    .doOnDiscard(ClientResponse.class, response -> response.releaseBody().subscribe());
+        });
+    }
+
+    private static Mono<ClientResponse> claim(Mono<ClientResponse> attempt, AtomicReference<ClientResponse> winner) {
+        return attempt.flatMap(response -> winner.compareAndSet(null, response)
+                ? Mono.just(response)
+                : response.releaseBody().then(Mono.<ClientResponse>empty()));
+    }
+
+    private Mono<ClientResponse> send(Endpoint endpoint, ClientRequest request, ExchangeFunction next) {
+        ClientRequest routed = endpoint.url.equals(baseUrl) ? request
+                : ClientRequest.from(request).url(endpoint.resolve(request.url(), baseUrl)).build();
+        return Mono.defer(() -> {
+            endpoint.outstanding.incrementAndGet();
+            long start = System.nanoTime();
+            return next.exchange(routed)
+                    .doOnNext(response -> {
+                        if (response.statusCode().is5xxServerError()) {
+                            endpoint.onFailure(ejectionFailures, ejectionNanos);
+                        } else {
+                            endpoint.onSuccess(System.nanoTime() - start);
+                        }
+                    })
+                    .doOnError(e -> endpoint.onFailure(ejectionFailures, ejectionNanos))
+                    .doFinally(signal -> endpoint.outstanding.decrementAndGet());
+        });
+    }
+
+    /**
+     * Picks the healthy endpoint with the fewest outstanding requests, starting from a rotating
+     * offset so ties are spread evenly. Falls back to ejected endpoints when none is healthy.
+     */
+    private Endpoint choose(Endpoint exclude) {
+        int size = endpoints.size();
+        int offset = Math.floorMod(rotation.getAndIncrement(), size);
+        long now = System.nanoTime();
+        Endpoint best = null;
+        Endpoint fallback = null;
+        for (int i = 0; i < size; i++) {
+            Endpoint candidate = endpoints.get((offset + i) % size);
+            if (candidate == exclude) {
+                continue;
+            }
+            if (fallback == null || candidate.outstanding.get() < fallback.outstanding.get()) {
+                fallback = candidate;
+            }
+            if (candidate.isEjected(now)) {
+                continue;
+            }
+            if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        return fallback != null ? fallback : exclude;
+    }
+
+    private long hedgeDelayNanos(Endpoint endpoint) {
+        return Math.max(hedgeMinDelayNanos, endpoint.latencyPercentile(hedgePercentile));
+    }
+
+    private static boolean optsOutOfHedging(ClientRequest request) {
+        return request.attribute(NO_HEDGE).map(Boolean.TRUE::equals).orElse(false);
+    }
+
+    private static boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+
+    private static final class Endpoint {
+
+        private static final int LATENCY_SAMPLES = 128;
+
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private final AtomicInteger latencyCount = new AtomicInteger();
+        private volatile long ejectedUntilNanos;
+        private volatile boolean ejected;
+
+        private Endpoint(String url) {
+            this.url = url;
+        }
+
+        private URI resolve(URI requestUrl, String baseUrl) {
+            String target = requestUrl.toString();
+            return URI.create(target.startsWith(baseUrl) ? url + target.substring(baseUrl.length()) : target);
+        }
+
+        private boolean isEjected(long now) {
+            return ejected && now - ejectedUntilNanos < 0;
+        }
+
+        private void onSuccess(long latencyNanos) {
+            consecutiveFailures.set(0);
+            ejected = false;
+            latencies[Math.floorMod(latencyCount.getAndIncrement(), LATENCY_SAMPLES)] = latencyNanos;
+        }
+
+        // Lost to a hedge: keep the latency it had reached and count it towards ejection.
+        private void onSlow(long latencyNanos, int threshold, long ejectionNanos) {
+            latencies[Math.floorMod(latencyCount.getAndIncrement(), LATENCY_SAMPLES)] = latencyNanos;
+            onFailure(threshold, ejectionNanos);
+        }
+
+        private void onFailure(int threshold, long ejectionNanos) {
+            if (consecutiveFailures.incrementAndGet() >= threshold) {
+                consecutiveFailures.set(0);
+                ejectedUntilNanos = System.nanoTime() + ejectionNanos;
+                ejected = true;
+            }
+        }
+
+        // The sample window is racy by design: a torn read only shifts the estimate by one sample.
+        private long latencyPercentile(double percentile) {
+            int count = Math.min(latencyCount.get(), LATENCY_SAMPLES);
+            if (count == 0) {
+                return 0L;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+}
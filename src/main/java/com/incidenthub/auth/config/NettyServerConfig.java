@@ -0,0 +1,47 @@
+package com.incidenthub.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Server tuning activated with the {@code netty-tuned} profile: native transport when available
+ * and explicit event-loop sizing. The epoll jars are only on the {@code bootRunNettyTuned} and
+ * {@code bootJarNettyTuned} classpaths; elsewhere the profile falls back to NIO. The h2c, decoder and keep-alive settings of the profile live in
+ * {@code application-netty-tuned.properties} as standard Spring Boot server properties.
+ */
+@Configuration
+@Profile("netty-tuned")
+public class NettyServerConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(NettyServerConfig.class);
+
+    // Keeps the default thread names so the profiling endpoint still recognises event-loop threads.
+    private static final String THREAD_PREFIX = "reactor-http";
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources serverLoopResources(
+            @Value("${incidenthub.netty.select-threads:1}") int selectThreads,
+            @Value("${incidenthub.netty.worker-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int workerThreads) {
+        return LoopResources.create(THREAD_PREFIX, selectThreads, workerThreads, true);
+    }
+
+    @Bean
+    public NettyServerTuning nettyServerTuning(
+            LoopResources serverLoopResources,
+            @Value("${incidenthub.netty.prefer-native:true}") boolean preferNative) {
+        return new NettyServerTuning(serverLoopResources, preferNative);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerTuningCustomizer(NettyServerTuning tuning) {
+        log.info("Netty tuning enabled, native transport {}", tuning.isNativeTransportActive() ? "active" : "unavailable");
+        return factory -> factory.addServerCustomizers(tuning::apply);
+    }
+}
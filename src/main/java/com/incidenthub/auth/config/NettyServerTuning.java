@@ -0,0 +1,31 @@
+package com.incidenthub.auth.config;
+
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Event-loop placement for the {@code netty-tuned} profile, kept apart from Spring so the same
+ * tuning can be applied to a bare {@link HttpServer} in benchmarks. Protocol, decoder and
+ * keep-alive limits are regular {@code server.*} properties and are left to Spring Boot.
+ */
+public class NettyServerTuning {
+
+    private final LoopResources loopResources;
+    private final boolean preferNative;
+
+    public NettyServerTuning(LoopResources loopResources, boolean preferNative) {
+        this.loopResources = loopResources;
+        this.preferNative = preferNative;
+    }
+
+    public HttpServer apply(HttpServer server) {
+        return server.runOn(loopResources, preferNative);
+    }
+
+    /**
+     * Whether the native transport (epoll on Linux) is on the classpath and usable on this host.
+     */
+    public boolean isNativeTransportActive() {
+        return preferNative && LoopResources.hasNativeSupport();
+    }
+}
@@ -1,7 +1,10 @@
 package com.incidenthub.auth.config;
 
+import com.incidenthub.auth.security.RouteAuthorizationManager;
+import com.incidenthub.auth.security.RouteRule;
+import com.incidenthub.auth.tracing.Stage;
+import com.incidenthub.auth.tracing.Tracer;
 import com.incidenthub.auth.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
@@ -10,18 +13,35 @@ import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
 import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.WebFilter;
+import org.springframework.security.core.authority.AuthorityUtils;
 import reactor.core.publisher.Mono;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
 
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
+    /**
+     * Route policy table, evaluated first match wins. Keep the catch-all rule last.
+     */
+    static final List<RouteRule> ROUTE_RULES = List.of(
+            RouteRule.permitAll("/api/auth/**"),
+            RouteRule.permitAll("/actuator/health/**"),
+            RouteRule.hasAnyRole("/actuator/profiling/**", "ADMIN"),
+            RouteRule.authenticated("/**")
+    );
+
     private final JwtUtil jwtUtil;
+    private final Tracer tracer;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
+    public SecurityConfig(JwtUtil jwtUtil, Tracer tracer) {
         this.jwtUtil = jwtUtil;
+        this.tracer = tracer;
     }
 
     @Bean
@@ -29,13 +49,17 @@ public class SecurityConfig {
         return http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .authorizeExchange(exchanges -> exchanges
-                        .pathMatchers("/api/auth/**").permitAll()
-                        .anyExchange().authenticated()
+                        .anyExchange().access(new RouteAuthorizationManager(ROUTE_RULES))
                 )
+                .addFilterAt(tracingFilter(), SecurityWebFiltersOrder.FIRST)
                 .addFilterAt(jwtAuthenticationFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
                 .build();
     }
 
+    private WebFilter tracingFilter() {
+        return (exchange, chain) -> tracer.trace(exchange.getRequest().getPath().value(), chain.filter(exchange));
+    }
+
     private AuthenticationWebFilter jwtAuthenticationFilter() {
         ReactiveAuthenticationManager authManager = new ReactiveAuthenticationManager() {
             @Override
@@ -53,16 +77,17 @@ public class SecurityConfig {
         return exchange -> {
             String token = exchange.getRequest().getHeaders().getFirst("Authorization");
             if (token != null && token.startsWith("Bearer ")) {
-                token = token.substring(7);
-                try {
-                    Claims claims = jwtUtil.validateToken(token);
-                    return Mono.just(new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-                            claims.getSubject(), null, null));
-                } catch (Exception e) {
-                    return Mono.empty();
-                }
+                String jwt = token.substring(7);
+                return tracer.stage(Stage.AUTH_FILTER, Mono.fromCallable(() -> jwtUtil.parseToken(jwt)))
+                        .<Authentication>map(claims -> new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                                claims.getUserId().toString(), null, roleAuthorities(claims.getRole())))
+                        .onErrorResume(e -> Mono.empty());
             }
             return Mono.empty();
         };
     }
+
+    private static List<GrantedAuthority> roleAuthorities(String role) {
+        return role == null ? List.of() : AuthorityUtils.createAuthorityList("ROLE_" + role);
+    }
 }
\ No newline at end of file
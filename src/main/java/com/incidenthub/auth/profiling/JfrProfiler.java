@@ -0,0 +1,234 @@
+package com.incidenthub.auth.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps an in-process JFR recording stream running and aggregates allocation sites, event-loop
+ * blocking stacks and GC pauses over a rolling window.
+ *
+ * <p>Only sampled or thresholded events are enabled, which keeps the overhead within what JFR's
+ * default profile costs. Event-loop threads are recognised by name prefix; execution samples on
+ * them approximate CPU work that blocks the loop (BCrypt, for example), while park and monitor
+ * events above the threshold catch real blocking.
+ */
+@Component
+@ConditionalOnProperty(prefix = "incidenthub.profiling", name = "enabled", havingValue = "true")
+public class JfrProfiler implements SmartLifecycle {
+
+    private static final int STACK_DEPTH = 8;
+    private static final int MAX_SAMPLES = 50_000;
+
+    private final Duration window;
+    private final Duration blockingThreshold;
+    private final Duration executionSamplePeriod;
+    private final String eventLoopThreadPrefix;
+
+    private final SampleWindow allocations = new SampleWindow(MAX_SAMPLES);
+    private final SampleWindow blocking = new SampleWindow(MAX_SAMPLES);
+    private final SampleWindow gcPauses = new SampleWindow(MAX_SAMPLES);
+
+    private volatile RecordingStream stream;
+
+    public JfrProfiler(@Value("${incidenthub.profiling.window:5m}") Duration window,
+                       @Value("${incidenthub.profiling.blocking-threshold:10ms}") Duration blockingThreshold,
+                       @Value("${incidenthub.profiling.execution-sample-period:20ms}") Duration executionSamplePeriod,
+                       @Value("${incidenthub.profiling.event-loop-thread-prefix:reactor-http-}") String eventLoopThreadPrefix) {
+        this.window = window;
+        this.blockingThreshold = blockingThreshold;
+        this.executionSamplePeriod = executionSamplePeriod;
+        this.eventLoopThreadPrefix = eventLoopThreadPrefix;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.setMaxAge(window);
+        recording.enable("jdk.ObjectAllocationSample").with("throttle", "150/s").withStackTrace();
+        recording.enable("jdk.ExecutionSample").withPeriod(executionSamplePeriod);
+        recording.enable("jdk.ThreadPark").withThreshold(blockingThreshold).withStackTrace();
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(blockingThreshold).withStackTrace();
+        recording.enable("jdk.GarbageCollection");
+
+        recording.onEvent("jdk.ObjectAllocationSample", event ->
+                allocations.add(new Sample(event.getStartTime(), stack(event), event.getLong("weight"))));
+        recording.onEvent("jdk.ExecutionSample", event -> {
+            if (onEventLoop(event.getThread("sampledThread"))) {
+                blocking.add(new Sample(event.getStartTime(), stack(event), executionSamplePeriod.toNanos()));
+            }
+        });
+        recording.onEvent("jdk.ThreadPark", this::onBlockingEvent);
+        recording.onEvent("jdk.JavaMonitorEnter", this::onBlockingEvent);
+        recording.onEvent("jdk.GarbageCollection", event ->
+                gcPauses.add(new Sample(event.getStartTime(), event.getString("name"),
+                        event.getDuration("sumOfPauses").toNanos())));
+
+        recording.startAsync();
+        this.stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = this.stream;
+        this.stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Aggregates the current window into a JSON-friendly structure with the {@code top} entries per category.
+     */
+    public Map<String, Object> summary(int top) {
+        Instant cutoff = Instant.now().minus(window);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("window", window.toString());
+        summary.put("allocationSites", aggregate(allocations, cutoff, top, "bytes"));
+        summary.put("eventLoopBlocking", aggregate(blocking, cutoff, top, "nanos"));
+        summary.put("gcPauses", recentPauses(gcPauses, cutoff, top));
+        return summary;
+    }
+
+    /**
+     * Writes the events currently retained by the stream to {@code destination} as a JFR file.
+     */
+    public void dump(Path destination) throws IOException {
+        RecordingStream recording = this.stream;
+        if (recording == null) {
+            throw new IllegalStateException("Profiler is not running");
+        }
+        recording.dump(destination);
+    }
+
+    private void onBlockingEvent(RecordedEvent event) {
+        if (onEventLoop(event.getThread())) {
+            blocking.add(new Sample(event.getStartTime(), stack(event), event.getDuration().toNanos()));
+        }
+    }
+
+    private boolean onEventLoop(RecordedThread thread) {
+        return thread != null && thread.getJavaName() != null && thread.getJavaName().startsWith(eventLoopThreadPrefix);
+    }
+
+    static List<Map<String, Object>> aggregate(SampleWindow sampleWindow, Instant cutoff, int top, String unit) {
+        sampleWindow.evict(cutoff);
+        Map<String, long[]> byStack = new HashMap<>();
+        for (Sample sample : sampleWindow.samples) {
+            long[] totals = byStack.computeIfAbsent(sample.key(), key -> new long[3]);
+            totals[0] += sample.value();
+            totals[1]++;
+            totals[2] = Math.max(totals[2], sample.value());
+        }
+        return byStack.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed())
+                .limit(top)
+                .map(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("stack", List.of(entry.getKey().split("\n")));
+                    row.put("total" + capitalize(unit), entry.getValue()[0]);
+                    row.put("samples", entry.getValue()[1]);
+                    row.put("max" + capitalize(unit), entry.getValue()[2]);
+                    return row;
+                })
+                .toList();
+    }
+
+    static List<Map<String, Object>> recentPauses(SampleWindow sampleWindow, Instant cutoff, int top) {
+        sampleWindow.evict(cutoff);
+        return sampleWindow.samples.stream()
+                .sorted(Comparator.comparingLong(Sample::value).reversed())
+                .limit(top)
+                .map(sample -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("collector", sample.key());
+                    row.put("time", sample.time().toString());
+                    row.put("pauseNanos", sample.value());
+                    return row;
+                })
+                .toList();
+    }
+
+    private static String stack(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "<no stack>";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(STACK_DEPTH, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            if (i > 0) {
+                builder.append('\n');
+            }
+            builder.append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    record Sample(Instant time, String key, long value) {
+    }
+
+    // Bounded by count as well as age so a burst cannot grow the window without limit between reads.
+    static final class SampleWindow {
+
+        private final ConcurrentLinkedDeque<Sample> samples = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int maxSamples;
+
+        SampleWindow(int maxSamples) {
+            this.maxSamples = maxSamples;
+        }
+
+        void add(Sample sample) {
+            samples.addLast(sample);
+            if (size.incrementAndGet() > maxSamples && samples.pollFirst() != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        void evict(Instant cutoff) {
+            Sample head;
+            while ((head = samples.peekFirst()) != null && head.time().isBefore(cutoff)) {
+                if (samples.pollFirst() != null) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.incidenthub.auth.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Actuator view of the {@link JfrProfiler}: {@code GET /actuator/profiling} returns the rolling
+ * summary as JSON, {@code GET /actuator/profiling/recording} downloads the retained events as a
+ * {@code .jfr} file for JDK Mission Control. The dump is streamed from a temporary file that is
+ * deleted once the response has been written.
+ */
+@Component
+@Endpoint(id = "profiling")
+@ConditionalOnProperty(prefix = "incidenthub.profiling", name = "enabled", havingValue = "true")
+public class ProfilingEndpoint {
+
+    private static final int DEFAULT_TOP = 10;
+
+    private final JfrProfiler profiler;
+
+    public ProfilingEndpoint(JfrProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> summary(@Nullable Integer top) {
+        return profiler.summary(top != null ? top : DEFAULT_TOP);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> recording(@Selector String name) throws IOException {
+        if (!"recording".equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("auth-service-", ".jfr");
+        try {
+            profiler.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    /**
+     * Streams a file and deletes it when the reader closes it, so a dump never has to fit on the heap.
+     * {@link #isFile()} stays {@code false} so writers read through {@link #readableChannel()} instead of
+     * using zero-copy transfer, which would bypass the delete.
+     */
+    static final class TemporaryFileResource extends AbstractResource {
+
+        private final Path file;
+
+        TemporaryFileResource(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public boolean exists() {
+            return Files.exists(file);
+        }
+
+        @Override
+        public boolean isReadable() {
+            return Files.isReadable(file);
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return Files.size(file);
+        }
+
+        @Override
+        public String getFilename() {
+            return "recording.jfr";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Channels.newInputStream(readableChannel());
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Files.newByteChannel(file, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        @Override
+        public String getDescription() {
+            return "JFR recording [" + file + "]";
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.incidenthub.auth.security;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Authorizes every exchange against a precompiled {@link RouteAuthorizationTable} in a single lookup.
+ */
+public class RouteAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final Mono<AuthorizationDecision> GRANTED_MONO = Mono.just(GRANTED);
+    private static final Mono<AuthorizationDecision> DENIED_MONO = Mono.just(DENIED);
+
+    private final RouteAuthorizationTable table;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    public RouteAuthorizationManager(List<RouteRule> rules) {
+        this.table = RouteAuthorizationTable.compile(rules);
+    }
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+        ServerHttpRequest request = context.getExchange().getRequest();
+        String path = decodedPath(request.getPath().pathWithinApplication());
+        if (path == null) {
+            return DENIED_MONO;
+        }
+        RouteAuthorizationTable.Decision decision = table.find(request.getMethod(), path);
+        if (!decision.requiresAuthentication()) {
+            return decision.isGranted(null) ? GRANTED_MONO : DENIED_MONO;
+        }
+        return authentication
+                .map(auth -> !trustResolver.isAnonymous(auth) && decision.isGranted(auth) ? GRANTED : DENIED)
+                .defaultIfEmpty(DENIED);
+    }
+
+    /**
+     * Rebuilds the path from decoded segments so rules see the same path the handler mappings route on;
+     * matching the raw value would let {@code /actuator/%70rofiling} slip past a {@code /actuator/profiling/**} rule.
+     * Returns {@code null} when a decoded segment would introduce a new separator.
+     */
+    static String decodedPath(PathContainer path) {
+        String raw = path.value();
+        if (raw.indexOf('%') < 0 && raw.indexOf(';') < 0) {
+            return raw;
+        }
+        StringBuilder decoded = new StringBuilder(raw.length());
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                String value = segment.valueToMatch();
+                if (value.indexOf('/') >= 0) {
+                    return null;
+                }
+                decoded.append(value);
+            } else {
+                decoded.append(element.value());
+            }
+        }
+        return decoded.toString();
+    }
+}
@@ -0,0 +1,219 @@
+package com.incidenthub.auth.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link RouteRule} table compiled into a segment trie. Every node holds, per HTTP method, the
+ * index of the first declared rule ending there, so a lookup is one walk over the path with no
+ * allocation and no pattern evaluation.
+ */
+public class RouteAuthorizationTable {
+
+    private static final int NO_RULE = Integer.MAX_VALUE;
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+    private static final int OTHER_METHOD = METHODS.length;
+    private static final int METHOD_SLOTS = METHODS.length + 1;
+
+    private static final Decision DENY = new Decision(RouteRule.Access.DENY_ALL, new String[0]);
+
+    private final Node root;
+    private final Decision[] decisions;
+
+    private RouteAuthorizationTable(Node root, Decision[] decisions) {
+        this.root = root;
+        this.decisions = decisions;
+    }
+
+    public static RouteAuthorizationTable compile(List<RouteRule> rules) {
+        Node root = new Node(null);
+        Decision[] decisions = new Decision[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            RouteRule rule = rules.get(i);
+            decisions[i] = new Decision(rule.getAccess(),
+                    rule.getRoles().stream().map(role -> "ROLE_" + role).toArray(String[]::new));
+            insert(root, rule, i);
+        }
+        return new RouteAuthorizationTable(root, decisions);
+    }
+
+    /**
+     * Returns the decision of the first rule matching the request, or a deny decision when none does.
+     */
+    public Decision find(HttpMethod method, String path) {
+        int rule = match(root, path, 0, methodSlot(method));
+        return rule == NO_RULE ? DENY : decisions[rule];
+    }
+
+    private static void insert(Node root, RouteRule rule, int index) {
+        String[] segments = Arrays.stream(rule.getPattern().split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + rule.getPattern());
+                }
+                assign(node.remainder, rule, index);
+                return;
+            }
+            if (!segment.equals("*") && (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0)) {
+                throw new IllegalArgumentException("Unsupported segment '" + segment + "' in " + rule.getPattern());
+            }
+            node = node.child(segment);
+        }
+        assign(node.exact, rule, index);
+    }
+
+    private static void assign(int[] slots, RouteRule rule, int index) {
+        if (rule.getMethod() == null) {
+            for (int slot = 0; slot < METHOD_SLOTS; slot++) {
+                slots[slot] = Math.min(slots[slot], index);
+            }
+        } else {
+            int slot = methodSlot(rule.getMethod());
+            slots[slot] = Math.min(slots[slot], index);
+        }
+    }
+
+    private static int methodSlot(HttpMethod method) {
+        String name = method.name();
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(name)) {
+                return i;
+            }
+        }
+        return OTHER_METHOD;
+    }
+
+    private static int match(Node node, String path, int position, int slot) {
+        int best = node.remainder[slot];
+        int start = position;
+        int length = path.length();
+        while (start < length && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == length) {
+            return Math.min(best, node.exact[slot]);
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        Node child = node.find(path, start, end);
+        if (child != null) {
+            best = Math.min(best, match(child, path, end, slot));
+        }
+        if (node.wildcard != null) {
+            best = Math.min(best, match(node.wildcard, path, end, slot));
+        }
+        return best;
+    }
+
+    public static final class Decision {
+
+        private final RouteRule.Access access;
+        private final String[] authorities;
+
+        private Decision(RouteRule.Access access, String[] authorities) {
+            this.access = access;
+            this.authorities = authorities;
+        }
+
+        public RouteRule.Access getAccess() {
+            return access;
+        }
+
+        public boolean requiresAuthentication() {
+            return access == RouteRule.Access.AUTHENTICATED || access == RouteRule.Access.ANY_ROLE;
+        }
+
+        public boolean isGranted(Authentication authentication) {
+            switch (access) {
+                case PERMIT_ALL:
+                    return true;
+                case DENY_ALL:
+                    return false;
+                case AUTHENTICATED:
+                    return authentication != null && authentication.isAuthenticated();
+                default:
+                    return authentication != null && authentication.isAuthenticated() && hasAnyAuthority(authentication);
+            }
+        }
+
+        private boolean hasAnyAuthority(Authentication authentication) {
+            for (GrantedAuthority granted : authentication.getAuthorities()) {
+                String authority = granted.getAuthority();
+                for (String required : authorities) {
+                    if (required.equals(authority)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Node {
+
+        private final String segment;
+        private final int hash;
+        private final int[] exact = newSlots();
+        private final int[] remainder = newSlots();
+        private Node[] children = new Node[0];
+        private Node wildcard;
+
+        private Node(String segment) {
+            this.segment = segment;
+            this.hash = segment == null ? 0 : segment.hashCode();
+        }
+
+        private static int[] newSlots() {
+            int[] slots = new int[METHOD_SLOTS];
+            Arrays.fill(slots, NO_RULE);
+            return slots;
+        }
+
+        private Node child(String segment) {
+            if (segment.equals("*")) {
+                if (wildcard == null) {
+                    wildcard = new Node(segment);
+                }
+                return wildcard;
+            }
+            for (Node child : children) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            List<Node> grown = new ArrayList<>(Arrays.asList(children));
+            Node child = new Node(segment);
+            grown.add(child);
+            children = grown.toArray(new Node[0]);
+            return child;
+        }
+
+        // Hashes the path region the same way String.hashCode would, so no substring is created.
+        private Node find(String path, int start, int end) {
+            int regionHash = 0;
+            for (int i = start; i < end; i++) {
+                regionHash = 31 * regionHash + path.charAt(i);
+            }
+            int length = end - start;
+            for (Node child : children) {
+                if (child.hash == regionHash && child.segment.length() == length
+                        && path.regionMatches(start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.incidenthub.auth.security;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+/**
+ * One row of the route policy table: a path pattern, an optional HTTP method and the access it grants.
+ *
+ * <p>Patterns are literal segments, {@code *} for exactly one segment, or a trailing {@code **}
+ * for any remainder (including none). When several rules match, the first declared one wins.
+ */
+public class RouteRule {
+
+    public enum Access {
+        PERMIT_ALL,
+        AUTHENTICATED,
+        ANY_ROLE,
+        DENY_ALL
+    }
+
+    private final HttpMethod method;
+    private final String pattern;
+    private final Access access;
+    private final List<String> roles;
+
+    private RouteRule(HttpMethod method, String pattern, Access access, List<String> roles) {
+        this.method = method;
+        this.pattern = pattern;
+        this.access = access;
+        this.roles = roles;
+    }
+
+    public static RouteRule permitAll(String pattern) {
+        return new RouteRule(null, pattern, Access.PERMIT_ALL, List.of());
+    }
+
+    public static RouteRule authenticated(String pattern) {
+        return new RouteRule(null, pattern, Access.AUTHENTICATED, List.of());
+    }
+
+    public static RouteRule hasAnyRole(String pattern, String... roles) {
+        return hasAnyRole(null, pattern, roles);
+    }
+
+    public static RouteRule hasAnyRole(HttpMethod method, String pattern, String... roles) {
+        if (roles.length == 0) {
+            throw new IllegalArgumentException("At least one role is required for " + pattern);
+        }
+        return new RouteRule(method, pattern, Access.ANY_ROLE, List.of(roles));
+    }
+
+    public static RouteRule denyAll(String pattern) {
+        return new RouteRule(null, pattern, Access.DENY_ALL, List.of());
+    }
+
+    /** Returns {@code null} when the rule applies to every method. */
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+}
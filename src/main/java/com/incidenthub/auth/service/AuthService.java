@@ -1,15 +1,18 @@
 package com.incidenthub.auth.service;
 
+import com.incidenthub.auth.audit.LoginAuditor;
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
 import com.incidenthub.auth.dto.LoginRequestDTO;
 import com.incidenthub.auth.dto.LoginResponseDTO;
 import com.incidenthub.auth.dto.UserDTO;
 import com.incidenthub.auth.model.User;
+import com.incidenthub.auth.tracing.Stage;
+import com.incidenthub.auth.tracing.Tracer;
 import com.incidenthub.auth.util.JwtUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
-import org.springframework.beans.factory.annotation.Value;
 import java.time.Instant;
 import java.util.UUID;
 import java.util.List;
@@ -20,12 +23,21 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final WebClient webClient;
+    private final KnownUserIndex knownUserIndex;
+    private final Tracer tracer;
+    private final LoginAuditor loginAuditor;
+    private final VerifiedCredentialCache credentialCache;
 
     public AuthService(JwtUtil jwtUtil, PasswordEncoder passwordEncoder, WebClient.Builder webClientBuilder,
-                       @Value("${incidenthub.user-service.url}") String userServiceUrl) {
+                       UserServiceLoadBalancer loadBalancer, KnownUserIndex knownUserIndex, Tracer tracer,
+                       LoginAuditor loginAuditor, VerifiedCredentialCache credentialCache) {
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
-        this.webClient = webClientBuilder.baseUrl(userServiceUrl).build();
+        this.webClient = webClientBuilder.baseUrl(loadBalancer.getBaseUrl()).filter(loadBalancer).build();
+        this.knownUserIndex = knownUserIndex;
+        this.tracer = tracer;
+        this.loginAuditor = loginAuditor;
+        this.credentialCache = credentialCache;
     }
 
     public Mono<UserDTO> register(UserDTO userDTO) {
@@ -36,19 +48,22 @@ public class AuthService {
             return Mono.error(new IllegalArgumentException("Invalid role"));
         }
 
-        User user = new User();
-        user.setId(UUID.randomUUID());
-        user.setUsername(userDTO.getUsername());
-        user.setEmail(userDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
-        user.setRole(userDTO.getRole());
-        user.setCreatedAt(Instant.now());
+        Mono<UserDTO> registration = tracer.stage(Stage.DUPLICATE_CHECK,
+                        knownUserIndex.isTaken(userDTO.getUsername(), userDTO.getEmail()))
+                .flatMap(taken -> taken
+                        ? Mono.<UserDTO>error(new IllegalArgumentException("User already exists"))
+                        : createUser(userDTO));
+        return tracer.trace("register", tracer.sinceStart(Stage.QUEUE, registration));
+    }
 
-        return webClient.post()
-                .uri("/api/users")
-                .bodyValue(user)
-                .retrieve()
-                .bodyToMono(User.class)
+    private Mono<UserDTO> createUser(UserDTO userDTO) {
+        return tracer.stage(Stage.PASSWORD_HASH, Mono.fromSupplier(() -> newUser(userDTO)))
+                .flatMap(user -> tracer.stage(Stage.USER_SERVICE, webClient.post()
+                        .uri("/api/users")
+                        .bodyValue(user)
+                        .retrieve()
+                        .bodyToMono(User.class)))
+                .doOnNext(savedUser -> knownUserIndex.add(savedUser.getUsername(), savedUser.getEmail()))
                 .map(savedUser -> {
                     UserDTO responseDTO = new UserDTO();
                     responseDTO.setUsername(savedUser.getUsername());
@@ -58,30 +73,58 @@ public class AuthService {
                 });
     }
 
+    private User newUser(UserDTO userDTO) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(userDTO.getUsername());
+        user.setEmail(userDTO.getEmail());
+        user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+        user.setRole(userDTO.getRole());
+        user.setCreatedAt(Instant.now());
+        return user;
+    }
+
     public Mono<LoginResponseDTO> login(LoginRequestDTO request) {
-        System.out.println("REQUEST: ");
-        System.out.println(request);
         if (request.getPassword() == null || request.getPassword().isEmpty()) {
+            loginAuditor.record(request.getUsername(), false, "Password cannot be empty");
             return Mono.error(new IllegalArgumentException("Password cannot be empty"));
         }
 
-        return webClient.get()
-                .uri("/api/users/username/{username}", request.getUsername())
-                .retrieve()
-                .onStatus(status -> status.isError(), response -> Mono.error(new RuntimeException("User not found")))
-                .bodyToMono(User.class)
-                .flatMap(user -> {
-                    System.out.println("USER: ");
-                    System.out.println(user);
-                    if (passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                        System.out.println("MATCHED");
-                        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole());
-                        LoginResponseDTO response = new LoginResponseDTO();
-                        response.setToken(token);
-                        return Mono.just(response);
-                    }
-                    System.out.println("NOT MATCHED");
-                    return Mono.error(new RuntimeException("Invalid credentials"));
+        Mono<LoginResponseDTO> login = tracer.stage(Stage.USER_SERVICE, webClient.get()
+                        .uri("/api/users/username/{username}", request.getUsername())
+                        .retrieve()
+                        .onStatus(status -> status.isError(), response -> Mono.error(new RuntimeException("User not found")))
+                        .bodyToMono(User.class))
+                .flatMap(user -> tracer.stage(Stage.PASSWORD_VERIFY,
+                                Mono.fromSupplier(() -> verifyPassword(user, request.getPassword())))
+                        .flatMap(matched -> matched ? issueToken(user) : invalidCredentials()))
+                .doOnNext(response -> loginAuditor.record(request.getUsername(), true, null))
+                .doOnError(e -> loginAuditor.record(request.getUsername(), false, e.getMessage()));
+        return tracer.trace("login", tracer.sinceStart(Stage.QUEUE, login));
+    }
+
+    private boolean verifyPassword(User user, String password) {
+        if (credentialCache.isVerified(user.getUsername(), user.getPassword(), password)) {
+            return true;
+        }
+        boolean matched = passwordEncoder.matches(password, user.getPassword());
+        if (matched) {
+            credentialCache.remember(user.getUsername(), user.getPassword(), password);
+        }
+        return matched;
+    }
+
+    private Mono<LoginResponseDTO> issueToken(User user) {
+        return tracer.stage(Stage.TOKEN_SIGN,
+                        Mono.fromSupplier(() -> jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole())))
+                .map(token -> {
+                    LoginResponseDTO response = new LoginResponseDTO();
+                    response.setToken(token);
+                    return response;
                 });
     }
+
+    private Mono<LoginResponseDTO> invalidCredentials() {
+        return Mono.error(new RuntimeException("Invalid credentials"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.incidenthub.auth.service;
+
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
+import com.incidenthub.auth.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory index of usernames and emails already known to the user service, used by
+ * {@link AuthService#register} to reject likely duplicates before paying for a BCrypt hash.
+ *
+ * <p>The filters are seeded from a streamed bulk load of username/email pairs at startup and updated on every successful
+ * registration. A miss means the value is definitely new; a hit is only a hint and is confirmed
+ * with a HEAD request against the user service. Until seeding completes every lookup is a miss,
+ * which is safe because the user service still enforces uniqueness on insert.
+ */
+@Component
+public class KnownUserIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(KnownUserIndex.class);
+
+    private final WebClient webClient;
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+    private final boolean seedEnabled;
+    private final String seedPath;
+
+    public KnownUserIndex(WebClient.Builder webClientBuilder, UserServiceLoadBalancer loadBalancer,
+                          @Value("${incidenthub.known-users.expected-size:1000000}") long expectedSize,
+                          @Value("${incidenthub.known-users.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${incidenthub.known-users.seed.enabled:true}") boolean seedEnabled,
+                          @Value("${incidenthub.known-users.seed.path:/api/users/identities}") String seedPath) {
+        this.webClient = webClientBuilder.baseUrl(loadBalancer.getBaseUrl()).filter(loadBalancer).build();
+        this.usernames = new BloomFilter(expectedSize, falsePositiveRate);
+        this.emails = new BloomFilter(expectedSize, falsePositiveRate);
+        this.seedEnabled = seedEnabled;
+        this.seedPath = seedPath;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!seedEnabled) {
+            return;
+        }
+        webClient.get()
+                .uri(seedPath)
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                // A hedge here would open a second full-table stream against another replica.
+                .attribute(UserServiceLoadBalancer.NO_HEDGE, true)
+                .retrieve()
+                .bodyToFlux(KnownUser.class)
+                .doOnNext(user -> add(user.username(), user.email()))
+                .count()
+                .subscribe(
+                        count -> log.info("Seeded known-user index with {} users", count),
+                        e -> log.warn("Known-user index seeding failed; duplicates will be detected by the user service", e));
+    }
+
+    public void add(String username, String email) {
+        if (username != null) {
+            usernames.put(username);
+        }
+        if (email != null) {
+            emails.put(email.toLowerCase());
+        }
+    }
+
+    /**
+     * Emits {@code true} only when the user service confirms that the username or email is taken.
+     */
+    public Mono<Boolean> isTaken(String username, String email) {
+        boolean usernameHit = usernames.mightContain(username);
+        boolean emailHit = emails.mightContain(email.toLowerCase());
+        if (!usernameHit && !emailHit) {
+            return Mono.just(false);
+        }
+        Mono<Boolean> emailTaken = emailHit ? exists("/api/users/email/{email}", email) : Mono.just(false);
+        if (!usernameHit) {
+            return emailTaken;
+        }
+        return exists("/api/users/username/{username}", username)
+                .flatMap(taken -> taken ? Mono.just(true) : emailTaken);
+    }
+
+    private Mono<Boolean> exists(String path, String value) {
+        return webClient.head()
+                .uri(path, value)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()))
+                .onErrorReturn(false);
+    }
+
+    /**
+     * Seed projection; only the fields the filters need are decoded, so password hashes are never
+     * bound even if the seed endpoint returns full user records.
+     */
+    record KnownUser(String username, String email) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.incidenthub.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in cache of recently verified credentials, so repeated logins with the same password (service
+ * accounts, CI bots) skip the BCrypt round in {@link AuthService#login}.
+ *
+ * <p>Entries are keyed by an HMAC over the username, the stored hash and the presented password,
+ * computed with a random key generated per process; neither the plaintext nor anything usable
+ * outside this instance is kept. Because the stored hash is part of the key, a password change
+ * invalidates the entry immediately. Entries expire after a short TTL and the cache never grows
+ * beyond its configured size.
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final SecretKey key;
+    private final ThreadLocal<Mac> macs;
+    private final Map<ByteBuffer, Long> expiries = new ConcurrentHashMap<>();
+
+    public VerifiedCredentialCache(@Value("${incidenthub.credential-cache.enabled:false}") boolean enabled,
+                                   @Value("${incidenthub.credential-cache.ttl:10s}") Duration ttl,
+                                   @Value("${incidenthub.credential-cache.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        try {
+            this.key = KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isVerified(String username, String storedHash, String password) {
+        if (!enabled) {
+            return false;
+        }
+        ByteBuffer entry = digest(username, storedHash, password);
+        Long expiresAt = expiries.get(entry);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt >= 0) {
+            expiries.remove(entry, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void remember(String username, String storedHash, String password) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (expiries.size() >= maxEntries) {
+            expiries.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (expiries.size() >= maxEntries) {
+                return;
+            }
+        }
+        expiries.put(digest(username, storedHash, password), now + ttlNanos);
+    }
+
+    private ByteBuffer digest(String username, String storedHash, String password) {
+        Mac mac = macs.get();
+        update(mac, username);
+        update(mac, storedHash);
+        update(mac, password);
+        return ByteBuffer.wrap(mac.doFinal());
+    }
+
+    // Length-prefixes each field so that ("ab", "c") and ("a", "bc") cannot produce the same input.
+    private static void update(Mac mac, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        mac.update((byte) (bytes.length >>> 24));
+        mac.update((byte) (bytes.length >>> 16));
+        mac.update((byte) (bytes.length >>> 8));
+        mac.update((byte) bytes.length);
+        mac.update(bytes);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
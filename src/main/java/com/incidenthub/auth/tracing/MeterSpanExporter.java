@@ -0,0 +1,38 @@
+package com.incidenthub.auth.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes each stage of a finished trace as an {@code auth.trace.stage} timer tagged with the stage name.
+ */
+@Component
+public class MeterSpanExporter implements SpanExporter {
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Timer[] stageTimers = new Timer[STAGES.length];
+    private final Timer totalTimer;
+
+    public MeterSpanExporter(MeterRegistry meterRegistry) {
+        for (Stage stage : STAGES) {
+            stageTimers[stage.ordinal()] = Timer.builder("auth.trace.stage")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        this.totalTimer = meterRegistry.timer("auth.trace.total");
+    }
+
+    @Override
+    public void export(Trace trace) {
+        for (Stage stage : STAGES) {
+            if (trace.hasStage(stage)) {
+                stageTimers[stage.ordinal()].record(trace.getStageNanos(stage), TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(trace.getDurationNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,6 @@
+package com.incidenthub.auth.tracing;
+
+public interface SpanExporter {
+
+    void export(Trace trace);
+}
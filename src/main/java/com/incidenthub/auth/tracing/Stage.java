@@ -0,0 +1,12 @@
+package com.incidenthub.auth.tracing;
+
+public enum Stage {
+    /** Time from the request entering the filter chain until the service starts handling it. */
+    QUEUE,
+    AUTH_FILTER,
+    DUPLICATE_CHECK,
+    USER_SERVICE,
+    PASSWORD_HASH,
+    PASSWORD_VERIFY,
+    TOKEN_SIGN
+}
@@ -0,0 +1,50 @@
+package com.incidenthub.auth.tracing;
+
+/**
+ * A sampled request with one duration slot per {@link Stage}. Stages are recorded into a
+ * preallocated array, so a trace costs a single allocation regardless of how many stages it covers.
+ */
+public class Trace {
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final String name;
+    private final long startNanos;
+    private final long[] stageNanos = new long[STAGES.length];
+    private int recordedStages;
+    private long durationNanos;
+
+    Trace(String name, long startNanos) {
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    void record(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+        recordedStages |= 1 << stage.ordinal();
+    }
+
+    void finish(long endNanos) {
+        durationNanos = endNanos - startNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public boolean hasStage(Stage stage) {
+        return (recordedStages & (1 << stage.ordinal())) != 0;
+    }
+
+    public long getStageNanos(Stage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+}
@@ -0,0 +1,102 @@
+package com.incidenthub.auth.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Sampled per-stage tracing carried through the Reactor {@code Context}.
+ *
+ * <p>The sampling decision is taken once, where the trace is started. Unsampled requests carry a
+ * shared marker so that nested {@link #trace} calls do not sample again, and every {@link #stage}
+ * call on them is a context lookup with no timing.
+ */
+@Component
+public class Tracer {
+
+    private static final Object CONTEXT_KEY = Trace.class;
+    private static final Trace UNSAMPLED = new Trace("unsampled", 0L);
+
+    private final double sampleRate;
+    private final SpanExporter exporter;
+
+    public Tracer(@Value("${incidenthub.tracing.sample-rate:0.01}") double sampleRate, SpanExporter exporter) {
+        this.sampleRate = sampleRate;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts a trace around {@code source} unless one is already present in the subscriber context.
+     */
+    public <T> Mono<T> trace(String name, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            if (ctx.hasKey(CONTEXT_KEY)) {
+                return source;
+            }
+            if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return source.contextWrite(c -> c.put(CONTEXT_KEY, UNSAMPLED));
+            }
+            Trace trace = new Trace(name, System.nanoTime());
+            return source
+                    .doFinally(signal -> {
+                        trace.finish(System.nanoTime());
+                        exporter.export(trace);
+                    })
+                    .contextWrite(c -> c.put(CONTEXT_KEY, trace));
+        });
+    }
+
+    /**
+     * Records the time from subscription to the first result or error of {@code source}.
+     */
+    public <T> Mono<T> stage(Stage stage, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Trace trace = current(ctx);
+            if (trace == null) {
+                return source;
+            }
+            StageTimer timer = new StageTimer(trace, stage);
+            return source.doOnSuccess(timer).doOnError(timer);
+        });
+    }
+
+    /**
+     * Records the time elapsed since the trace started, measured when {@code source} is subscribed.
+     */
+    public <T> Mono<T> sinceStart(Stage stage, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Trace trace = current(ctx);
+            if (trace != null) {
+                trace.record(stage, System.nanoTime() - trace.getStartNanos());
+            }
+            return source;
+        });
+    }
+
+    private static Trace current(ContextView ctx) {
+        Trace trace = ctx.getOrDefault(CONTEXT_KEY, null);
+        return trace == UNSAMPLED ? null : trace;
+    }
+
+    // Used for both the success and the error callback, so a stage costs one allocation when sampled.
+    private static final class StageTimer implements Consumer<Object> {
+
+        private final Trace trace;
+        private final Stage stage;
+        private final long startNanos = System.nanoTime();
+
+        private StageTimer(Trace trace, Stage stage) {
+            this.trace = trace;
+            this.stage = stage;
+        }
+
+        @Override
+        public void accept(Object ignored) {
+            trace.record(stage, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -7,23 +7,49 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Issues and validates tokens in one of two profiles, selected by {@code spring.security.jwt.profile}.
+ * The standard profile has a UUID string subject and {@code username}/{@code role} claims. The
+ * compact profile carries {@code v} (claim-set version), the user id as 16 base64url bytes in
+ * {@code sub}, {@code u} for the username and a numeric role code in {@code r}. Both profiles are
+ * always accepted by {@link #parseToken}, so they can coexist during migration.
+ */
 @Component
 public class JwtUtil {
 
+    public static final String PROFILE_STANDARD = "standard";
+    public static final String PROFILE_COMPACT = "compact";
+
+    private static final int COMPACT_VERSION = 2;
+    private static final int STANDARD_VERSION = 1;
+    private static final List<String> ROLE_CODES = List.of("ADMIN", "ANALYST", "OPERATOR");
+
     private final String secret;
     private final long expiration;
+    private final boolean compact;
 
     public JwtUtil(@Value("${spring.security.jwt.secret}") String secret,
-                   @Value("${spring.security.jwt.expiration}") long expiration) {
+                   @Value("${spring.security.jwt.expiration}") long expiration,
+                   @Value("${spring.security.jwt.profile:standard}") String profile) {
+        if (!PROFILE_STANDARD.equals(profile) && !PROFILE_COMPACT.equals(profile)) {
+            throw new IllegalArgumentException("Unknown JWT profile: " + profile);
+        }
         this.secret = secret;
         this.expiration = expiration;
+        this.compact = PROFILE_COMPACT.equals(profile);
     }
 
     public String generateToken(UUID userId, String username, String role) {
+        if (compact) {
+            return generateCompactToken(userId, username, role);
+        }
         return Jwts.builder()
                 .subject(userId.toString())
                 .claim("username", username)
@@ -42,8 +68,65 @@ public class JwtUtil {
                 .getPayload();
     }
 
+    /**
+     * Validates a token of either profile and returns its claims in profile-independent form.
+     */
+    public TokenClaims parseToken(String token) {
+        Claims claims = validateToken(token);
+        Integer version = claims.get("v", Integer.class);
+        if (version == null) {
+            return new TokenClaims(STANDARD_VERSION, UUID.fromString(claims.getSubject()),
+                    claims.get("username", String.class), claims.get("role", String.class));
+        }
+        if (version != COMPACT_VERSION) {
+            throw new IllegalArgumentException("Unsupported token version: " + version);
+        }
+        return new TokenClaims(version, decodeUserId(claims.getSubject()),
+                claims.get("u", String.class), decodeRole(claims.get("r")));
+    }
+
     public String getUserIdFromToken(String token) {
-        return validateToken(token).getSubject();
+        return parseToken(token).getUserId().toString();
+    }
+
+    private String generateCompactToken(UUID userId, String username, String role) {
+        int roleCode = ROLE_CODES.indexOf(role);
+        return Jwts.builder()
+                .claim("v", COMPACT_VERSION)
+                .subject(encodeUserId(userId))
+                .claim("u", username)
+                .claim("r", roleCode >= 0 ? roleCode + 1 : role)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(getSignKey())
+                .compact();
+    }
+
+    private static String encodeUserId(UUID userId) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private static UUID decodeUserId(String subject) {
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(subject));
+        if (bytes.remaining() != 16) {
+            throw new IllegalArgumentException("Invalid compact subject");
+        }
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    // Roles outside the code table are written as plain strings so the profile never loses data.
+    private static String decodeRole(Object role) {
+        if (role instanceof Number code) {
+            int index = code.intValue() - 1;
+            if (index < 0 || index >= ROLE_CODES.size()) {
+                throw new IllegalArgumentException("Unknown role code: " + code);
+            }
+            return ROLE_CODES.get(index);
+        }
+        return (String) role;
     }
 
     private SecretKey getSignKey() {
@@ -53,4 +136,4 @@ public class JwtUtil {
         }
         return Keys.hmacShaKeyFor(keyBytes);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.incidenthub.auth.util;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Profile-independent view of a validated token, as returned by {@link JwtUtil#parseToken}.
+ */
+@Value
+public class TokenClaims {
+    int version;
+    UUID userId;
+    String username;
+    String role;
+}
@@ -0,0 +1,157 @@
+package com.incidenthub.auth.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
+import com.incidenthub.auth.dto.LoginResponseDTO;
+import com.incidenthub.auth.model.User;
+import com.incidenthub.auth.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the login hot path once at startup so the first real requests do not pay for
+ * class loading, JIT compilation and connection establishment.
+ *
+ * <p>Runs as an {@link ApplicationRunner}, which Spring Boot invokes before it publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}; the readiness probe therefore stays DOWN until
+ * this phase has finished.
+ */
+@Component
+@ConditionalOnProperty(prefix = "incidenthub.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String WARMUP_PASSWORD = "warmup-password";
+
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final List<String> userServiceUrls;
+    private final int iterations;
+    private final int passwordIterations;
+    private final int connections;
+    private final String userServicePath;
+    private final Duration timeout;
+
+    public WarmupRunner(JwtUtil jwtUtil, PasswordEncoder passwordEncoder, ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry, WebClient.Builder webClientBuilder,
+                        UserServiceLoadBalancer loadBalancer,
+                        @Value("${incidenthub.warmup.iterations:200}") int iterations,
+                        @Value("${incidenthub.warmup.password-iterations:10}") int passwordIterations,
+                        @Value("${incidenthub.warmup.connections:8}") int connections,
+                        @Value("${incidenthub.warmup.user-service-path:/actuator/health}") String userServicePath,
+                        @Value("${incidenthub.warmup.timeout:30s}") Duration timeout) {
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.webClient = webClientBuilder.build();
+        this.userServiceUrls = loadBalancer.getEndpointUrls();
+        this.iterations = iterations;
+        this.passwordIterations = passwordIterations;
+        this.connections = connections;
+        this.userServicePath = userServicePath;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        User user = sampleUser();
+        // BCrypt is deliberately slow, so it gets far fewer rounds than the cheap token and JSON paths.
+        for (int i = 0; i < passwordIterations; i++) {
+            passwordEncoder.matches(WARMUP_PASSWORD, user.getPassword());
+        }
+        for (int i = 0; i < iterations; i++) {
+            exerciseTokenPath(user);
+        }
+        openConnections();
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("auth.warmup.duration").record(elapsed, TimeUnit.NANOSECONDS);
+        recordPostWarmupLatency(user);
+        log.info("Warm-up finished in {} ms ({} password checks, {} token round trips, {} connections per user-service replica)",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), passwordIterations, iterations, connections);
+    }
+
+    private User sampleUser() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("warmup");
+        user.setEmail("warmup@incidenthub.local");
+        user.setPassword(passwordEncoder.encode(WARMUP_PASSWORD));
+        user.setRole("OPERATOR");
+        user.setCreatedAt(Instant.now());
+        return user;
+    }
+
+    private void exerciseTokenPath(User user) {
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole());
+        jwtUtil.parseToken(token);
+        roundTrip(user, token);
+    }
+
+    private void roundTrip(User user, String token) {
+        try {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(user), User.class);
+            LoginResponseDTO response = new LoginResponseDTO();
+            response.setToken(token);
+            objectMapper.readValue(objectMapper.writeValueAsBytes(response), LoginResponseDTO.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Warm-up serialization failed", e);
+        }
+    }
+
+    private void openConnections() {
+        // The response itself is irrelevant; the requests exist to populate the shared connection pool.
+        // Each replica is addressed directly so that every one of them gets warm connections.
+        Flux.fromIterable(userServiceUrls)
+                .flatMap(url -> Flux.range(0, connections).map(i -> url))
+                .flatMap(url -> webClient.get()
+                        .uri(url + userServicePath)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .onErrorResume(e -> Mono.empty()), connections * userServiceUrls.size())
+                .then()
+                .timeout(timeout, Mono.empty())
+                .block();
+    }
+
+    private void recordPostWarmupLatency(User user) {
+        Timer.builder("auth.warmup.post.latency")
+                .tag("stage", "password.matches")
+                .register(meterRegistry)
+                .record(() -> passwordEncoder.matches(WARMUP_PASSWORD, user.getPassword()));
+        Timer.builder("auth.warmup.post.latency")
+                .tag("stage", "token.generate")
+                .register(meterRegistry)
+                .record(() -> jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole()));
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole());
+        Timer.builder("auth.warmup.post.latency")
+                .tag("stage", "token.validate")
+                .register(meterRegistry)
+                .record(() -> jwtUtil.parseToken(token));
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS login_audit (
+    id          BIGSERIAL PRIMARY KEY,
+    username    VARCHAR(255),
+    success     BOOLEAN      NOT NULL,
+    reason      VARCHAR(255),
+    occurred_at TIMESTAMPTZ  NOT NULL
+);
@@ -0,0 +1,31 @@
+package com.incidenthub.auth.servlet;
+
+import com.incidenthub.auth.dto.LoginRequestDTO;
+import com.incidenthub.auth.dto.LoginResponseDTO;
+import com.incidenthub.auth.dto.UserDTO;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+public class BlockingAuthController {
+
+    private final BlockingAuthService authService;
+
+    public BlockingAuthController(BlockingAuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/register")
+    public UserDTO register(@Valid @RequestBody UserDTO userDTO) {
+        return authService.register(userDTO);
+    }
+
+    @PostMapping("/login")
+    public LoginResponseDTO login(@Valid @RequestBody LoginRequestDTO request) {
+        return authService.login(request);
+    }
+}
@@ -0,0 +1,97 @@
+package com.incidenthub.auth.servlet;
+
+import com.incidenthub.auth.dto.LoginRequestDTO;
+import com.incidenthub.auth.dto.LoginResponseDTO;
+import com.incidenthub.auth.dto.UserDTO;
+import com.incidenthub.auth.model.User;
+import com.incidenthub.auth.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Blocking counterpart of {@code AuthService}, meant to run on virtual threads. It keeps the same
+ * request flow and errors but talks to the first configured user-service replica only, and has
+ * none of the reactive-side extras (known-user index, tracing, audit trail).
+ */
+@Service
+public class BlockingAuthService {
+
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final RestClient restClient;
+
+    public BlockingAuthService(JwtUtil jwtUtil, PasswordEncoder passwordEncoder, RestClient.Builder restClientBuilder,
+                               @Value("${incidenthub.user-service.url}") String userServiceUrls,
+                               @Value("${incidenthub.user-service.connect-timeout:2s}") Duration connectTimeout) {
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        // HTTP/1.1 like the reactive client; the JDK default would attempt an h2c upgrade on every request body.
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.restClient = restClientBuilder
+                .baseUrl(userServiceUrls.split(",")[0].trim())
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    public UserDTO register(UserDTO userDTO) {
+        if (userDTO.getUsername() == null || userDTO.getEmail() == null || userDTO.getPassword() == null) {
+            throw new IllegalArgumentException("Invalid user data");
+        }
+        if (!List.of("ADMIN", "ANALYST", "OPERATOR").contains(userDTO.getRole())) {
+            throw new IllegalArgumentException("Invalid role");
+        }
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(userDTO.getUsername());
+        user.setEmail(userDTO.getEmail());
+        user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+        user.setRole(userDTO.getRole());
+        user.setCreatedAt(Instant.now());
+
+        User savedUser = restClient.post()
+                .uri("/api/users")
+                .body(user)
+                .retrieve()
+                .body(User.class);
+
+        UserDTO responseDTO = new UserDTO();
+        responseDTO.setUsername(savedUser.getUsername());
+        responseDTO.setEmail(savedUser.getEmail());
+        responseDTO.setRole(savedUser.getRole());
+        return responseDTO;
+    }
+
+    public LoginResponseDTO login(LoginRequestDTO request) {
+        if (request.getPassword() == null || request.getPassword().isEmpty()) {
+            throw new IllegalArgumentException("Password cannot be empty");
+        }
+
+        User user = restClient.get()
+                .uri("/api/users/username/{username}", request.getUsername())
+                .retrieve()
+                .onStatus(status -> status.isError(), (req, response) -> {
+                    throw new RuntimeException("User not found");
+                })
+                .body(User.class);
+
+        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            throw new RuntimeException("Invalid credentials");
+        }
+        LoginResponseDTO response = new LoginResponseDTO();
+        response.setToken(jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole()));
+        return response;
+    }
+}
@@ -0,0 +1,21 @@
+package com.incidenthub.auth.servlet;
+
+import com.incidenthub.auth.config.AppConfig;
+import com.incidenthub.auth.util.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring MVC entry point for the virtual-thread runtime. Only this package is scanned; the
+ * shared {@link JwtUtil} and {@link AppConfig} are imported explicitly from the reactive build.
+ */
+@SpringBootApplication
+@Import({JwtUtil.class, AppConfig.class})
+public class ServletAuthApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ServletAuthApplication.class, args);
+	}
+
+}
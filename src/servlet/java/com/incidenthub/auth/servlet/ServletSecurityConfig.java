@@ -0,0 +1,96 @@
+package com.incidenthub.auth.servlet;
+
+import com.incidenthub.auth.security.RouteAuthorizationTable;
+import com.incidenthub.auth.security.RouteRule;
+import com.incidenthub.auth.util.JwtUtil;
+import com.incidenthub.auth.util.TokenClaims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Servlet equivalent of the reactive {@code SecurityConfig}: the same bearer-token authentication
+ * and the same compiled route table, evaluated per request.
+ */
+@Configuration
+@EnableWebSecurity
+public class ServletSecurityConfig {
+
+    static final List<RouteRule> ROUTE_RULES = List.of(
+            RouteRule.permitAll("/api/auth/**"),
+            RouteRule.permitAll("/actuator/health/**"),
+            RouteRule.authenticated("/**")
+    );
+
+    private final JwtUtil jwtUtil;
+
+    public ServletSecurityConfig(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        RouteAuthorizationTable table = RouteAuthorizationTable.compile(ROUTE_RULES);
+        AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(requests -> requests
+                        .anyRequest().access((authentication, context) -> {
+                            HttpServletRequest request = context.getRequest();
+                            // The container has already decoded and normalised these, unlike the raw request URI.
+                            String pathInfo = request.getPathInfo();
+                            String path = pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+                            RouteAuthorizationTable.Decision decision =
+                                    table.find(HttpMethod.valueOf(request.getMethod()), path);
+                            Authentication auth = decision.requiresAuthentication() ? authentication.get() : null;
+                            boolean anonymous = auth != null && trustResolver.isAnonymous(auth);
+                            return new AuthorizationDecision(!anonymous && decision.isGranted(auth));
+                        })
+                )
+                .addFilterBefore(new JwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                .build();
+    }
+
+    private final class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            String token = request.getHeader("Authorization");
+            if (token != null && token.startsWith("Bearer ")) {
+                try {
+                    TokenClaims claims = jwtUtil.parseToken(token.substring(7));
+                    String role = claims.getRole();
+                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                            claims.getUserId().toString(), null,
+                            role == null ? List.of() : AuthorityUtils.createAuthorityList("ROLE_" + role)));
+                } catch (Exception e) {
+                    SecurityContextHolder.clearContext();
+                }
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
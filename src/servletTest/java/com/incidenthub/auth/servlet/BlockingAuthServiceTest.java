@@ -0,0 +1,169 @@
+package com.incidenthub.auth.servlet;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.incidenthub.auth.dto.LoginRequestDTO;
+import com.incidenthub.auth.dto.LoginResponseDTO;
+import com.incidenthub.auth.dto.UserDTO;
+import com.incidenthub.auth.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlockingAuthServiceTest {
+
+    private WireMockServer userService;
+    private PasswordEncoder passwordEncoder;
+    private JwtUtil jwtUtil;
+    private BlockingAuthService authService;
+
+    private UserDTO userDTO;
+    private LoginRequestDTO loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        userService = new WireMockServer(wireMockConfig().dynamicPort());
+        userService.start();
+        passwordEncoder = new BCryptPasswordEncoder(4);
+        jwtUtil = new JwtUtil("ThisIsASecureTestSecretKey1234567890", 60_000, "standard");
+        authService = new BlockingAuthService(jwtUtil, passwordEncoder, RestClient.builder(),
+                userService.baseUrl() + ", http://localhost:1", Duration.ofSeconds(2));
+
+        userDTO = new UserDTO();
+        userDTO.setUsername("testuser");
+        userDTO.setEmail("test@example.com");
+        userDTO.setPassword("password123");
+        userDTO.setRole("OPERATOR");
+
+        loginRequest = new LoginRequestDTO();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("password123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.stop();
+    }
+
+    @Test
+    void register_success() {
+        userService.stubFor(post(urlEqualTo("/api/users"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(userJson("$2a$04$unused"))));
+
+        UserDTO registered = authService.register(userDTO);
+
+        assertThat(registered.getUsername()).isEqualTo("testuser");
+        assertThat(registered.getEmail()).isEqualTo("test@example.com");
+        assertThat(registered.getRole()).isEqualTo("OPERATOR");
+        assertThat(registered.getPassword()).isNull();
+        // The user service receives a hash, never the plain password
+        userService.verify(postRequestedFor(urlEqualTo("/api/users"))
+                .withRequestBody(matchingJsonPath("$.password", matching("\\$2a\\$04\\$.*"))));
+    }
+
+    @Test
+    void register_invalidRole() {
+        userDTO.setRole("INVALID");
+
+        assertThatThrownBy(() -> authService.register(userDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid role");
+        userService.verify(0, postRequestedFor(urlEqualTo("/api/users")));
+    }
+
+    @Test
+    void register_invalidData() {
+        userDTO.setEmail(null);
+
+        assertThatThrownBy(() -> authService.register(userDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid user data");
+    }
+
+    @Test
+    void register_userServiceFailure() {
+        userService.stubFor(post(urlEqualTo("/api/users"))
+                .willReturn(aResponse().withStatus(HttpStatus.BAD_REQUEST.value())));
+
+        assertThatThrownBy(() -> authService.register(userDTO))
+                .isInstanceOf(HttpClientErrorException.BadRequest.class);
+    }
+
+    @Test
+    void login_success() {
+        stubUser(passwordEncoder.encode("password123"));
+
+        LoginResponseDTO response = authService.login(loginRequest);
+
+        assertThat(jwtUtil.parseToken(response.getToken()).getUsername()).isEqualTo("testuser");
+        assertThat(jwtUtil.parseToken(response.getToken()).getRole()).isEqualTo("OPERATOR");
+    }
+
+    @Test
+    void login_invalidUsername() {
+        userService.stubFor(get(urlEqualTo("/api/users/username/testuser"))
+                .willReturn(aResponse().withStatus(HttpStatus.NOT_FOUND.value())));
+
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("User not found");
+    }
+
+    @Test
+    void login_invalidPassword() {
+        stubUser(passwordEncoder.encode("password123"));
+        loginRequest.setPassword("wrongpassword");
+
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid credentials");
+    }
+
+    @Test
+    void login_emptyPassword() {
+        loginRequest.setPassword("");
+
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Password cannot be empty");
+        userService.verify(0, getRequestedFor(urlMatching("/api/users/username/.*")));
+    }
+
+    private void stubUser(String passwordHash) {
+        userService.stubFor(get(urlEqualTo("/api/users/username/testuser"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(userJson(passwordHash))));
+    }
+
+    private static String userJson(String passwordHash) {
+        return """
+                {
+                    "id": "%s",
+                    "username": "testuser",
+                    "email": "test@example.com",
+                    "password": "%s",
+                    "role": "OPERATOR",
+                    "createdAt": "%s"
+                }
+                """.formatted(UUID.randomUUID(), passwordHash, Instant.now());
+    }
+}
@@ -0,0 +1,92 @@
+package com.incidenthub.auth.servlet;
+
+import com.incidenthub.auth.dto.LoginResponseDTO;
+import com.incidenthub.auth.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BlockingAuthController.class)
+@Import(ServletSecurityConfig.class)
+@TestPropertySource(properties = {
+        "spring.security.jwt.secret=ThisIsASecureTestSecretKey1234567890",
+        "spring.security.jwt.expiration=60000"
+})
+class ServletSecurityConfigTest {
+
+    private static final String LOGIN_BODY = "{\"username\": \"testuser\", \"password\": \"password123\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private BlockingAuthService authService;
+
+    @Test
+    void loginIsPublic() throws Exception {
+        LoginResponseDTO response = new LoginResponseDTO();
+        response.setToken("token");
+        when(authService.login(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("token"));
+    }
+
+    @Test
+    void rulesMatchThePathWithinTheContext() throws Exception {
+        when(authService.login(any())).thenReturn(new LoginResponseDTO());
+
+        mockMvc.perform(post("/auth-service/api/auth/login").contextPath("/auth-service")
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN_BODY))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rulesMatchTheDecodedPath() throws Exception {
+        when(authService.login(any())).thenReturn(new LoginResponseDTO());
+
+        mockMvc.perform(post(URI.create("/api/%61uth/login"))
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN_BODY))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void protectedRoutesRejectAnonymousRequests() throws Exception {
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void protectedRoutesRejectInvalidTokens() throws Exception {
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void protectedRoutesAcceptValidTokens() throws Exception {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "testuser", "OPERATOR");
+
+        // Past authorization there is no handler for this path, so a 404 shows the token was accepted.
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,152 @@
+package com.incidenthub.auth;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Side-by-side login benchmark of the WebFlux runtime and the Spring MVC virtual-thread runtime.
+ *
+ * <p>Both services must already be running and pointed at the user-service stub this benchmark
+ * starts on {@code benchmark.user-service.port} (default 8090). Neither runtime exposes metrics by
+ * default, so both are started with it; the WebFlux runtime additionally has the features the MVC
+ * runtime lacks switched off (audit trail, trace sampling, known-user seeding, warm-up) so the
+ * comparison measures the threading model rather than extra work. With the audit trail off it
+ * also needs no database, so schema initialisation is skipped:
+ * <pre>
+ * ./gradlew bootRun --args='--server.port=8081 --incidenthub.user-service.url=http://localhost:8090
+ *     --management.endpoints.web.exposure.include=health,metrics --incidenthub.audit.enabled=false
+ *     --incidenthub.tracing.sample-rate=0 --incidenthub.known-users.seed.enabled=false
+ *     --incidenthub.warmup.enabled=false --spring.sql.init.mode=never'
+ * ./gradlew bootRunServlet --args='--server.port=8082 --incidenthub.user-service.url=http://localhost:8090
+ *     --management.endpoints.web.exposure.include=health,metrics'
+ * ./gradlew benchmark -Dbenchmark.reactive.url=http://localhost:8081 -Dbenchmark.servlet.url=http://localhost:8082
+ * </pre>
+ * Reports throughput, p50/p99 latency and JVM memory growth per concurrent connection, read from
+ * each service's {@code /actuator/metrics/jvm.memory.used}.
+ */
+@Tag("benchmark")
+class RuntimeComparisonBenchmark {
+
+    private static final String USERNAME = "benchuser";
+    private static final String PASSWORD = "password123";
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 200);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern MEASUREMENT = Pattern.compile("\"value\"\\s*:\\s*([0-9.E+]+)");
+
+    @Test
+    void compareRuntimes() throws Exception {
+        String reactiveUrl = System.getProperty("benchmark.reactive.url");
+        String servletUrl = System.getProperty("benchmark.servlet.url");
+        assumeTrue(reactiveUrl != null && servletUrl != null, "benchmark.reactive.url and benchmark.servlet.url are required");
+
+        WireMockServer userService = new WireMockServer(wireMockConfig().port(Integer.getInteger("benchmark.user-service.port", 8090)));
+        userService.start();
+        try {
+            userService.stubFor(get(urlEqualTo("/api/users/username/" + USERNAME))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("""
+                                    {"id": "%s", "username": "%s", "email": "bench@example.com",
+                                     "password": "%s", "role": "OPERATOR", "createdAt": "2024-01-01T00:00:00Z"}
+                                    """.formatted(UUID.randomUUID(), USERNAME, new BCryptPasswordEncoder().encode(PASSWORD)))));
+
+            run("webflux", reactiveUrl);
+            run("mvc + virtual threads", servletUrl);
+        } finally {
+            userService.stop();
+        }
+    }
+
+    private static void run(String label, String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"%s\",\"password\":\"%s\"}".formatted(USERNAME, PASSWORD)))
+                .build();
+
+        String token = token(client.send(login, HttpResponse.BodyHandlers.ofString()).body());
+        load(client, login, REQUESTS / 5, new AtomicInteger()).join();
+        double memoryBefore = memoryUsed(client, baseUrl, token);
+
+        AtomicInteger progress = new AtomicInteger();
+        long start = System.nanoTime();
+        CompletableFuture<long[]> run = load(client, login, REQUESTS, progress);
+        while (progress.get() < REQUESTS / 2 && !run.isDone()) {
+            Thread.sleep(10);
+        }
+        double memoryUnderLoad = memoryUsed(client, baseUrl, token);
+        long[] latencies = run.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %.0f logins/s, p50 %d ms, p99 %d ms, ~%.1f KiB per connection%n", label,
+                REQUESTS / seconds,
+                latencies[latencies.length / 2] / 1_000_000,
+                latencies[(int) (latencies.length * 0.99)] / 1_000_000,
+                Math.max(0, memoryUnderLoad - memoryBefore) / CONNECTIONS / 1024);
+    }
+
+    private static CompletableFuture<long[]> load(HttpClient client, HttpRequest login, int requests, AtomicInteger next) {
+        long[] latencies = new long[requests];
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int c = 0; c < CONNECTIONS; c++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    long start = System.nanoTime();
+                    try {
+                        client.send(login, HttpResponse.BodyHandlers.discarding());
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Login request failed", e);
+                    }
+                    latencies[i] = System.nanoTime() - start;
+                }
+            }, Executors.newVirtualThreadPerTaskExecutor()));
+        }
+        return CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).thenApply(done -> latencies);
+    }
+
+    private static String token(String loginResponse) {
+        Matcher matcher = TOKEN.matcher(loginResponse);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + loginResponse);
+        }
+        return matcher.group(1);
+    }
+
+    private static double memoryUsed(HttpClient client, String baseUrl, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/jvm.memory.used"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = MEASUREMENT.matcher(body);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.incidenthub.auth.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAuditorTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private final List<String> insertThreads = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(anyString())).thenAnswer(invocation -> {
+            insertThreads.add(Thread.currentThread().getName());
+            return spec;
+        });
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.bindNull(anyString(), any())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void batchThresholdFlushesOffTheCallingThread() {
+        LoginAuditor auditor = auditor(2);
+        String caller = Thread.currentThread().getName();
+
+        auditor.record("alice", true, null);
+        auditor.record("bob", false, "Invalid credentials");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !insertThreads.isEmpty());
+        assertThat(insertThreads).doesNotContain(caller);
+    }
+
+    @Test
+    void oversizedValuesAreCutToTheColumnWidth() {
+        LoginAuditor auditor = auditor(100);
+
+        auditor.record("u".repeat(1_000), false, "x".repeat(1_000));
+        auditor.flush().block(Duration.ofSeconds(5));
+
+        verify(spec).bind(eq("username0"), eq("u".repeat(LoginAuditor.MAX_COLUMN_LENGTH)));
+        verify(spec).bind(eq("reason0"), eq("x".repeat(LoginAuditor.MAX_COLUMN_LENGTH)));
+    }
+
+    private LoginAuditor auditor(int batchSize) {
+        return new LoginAuditor(databaseClient, new SimpleMeterRegistry(), true, 100, batchSize, 0.75, 1.0,
+                Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,194 @@
+package com.incidenthub.auth.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserServiceLoadBalancerTest {
+
+    private static final String USER_PATH = "/api/users/username/testuser";
+
+    private WireMockServer first;
+    private WireMockServer second;
+    private WireMockServer third;
+
+    @BeforeEach
+    void setUp() {
+        first = start();
+        second = start();
+        third = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.of(first, second, third).forEach(WireMockServer::stop);
+    }
+
+    @Test
+    void spreadsRequestsAcrossReplicas() {
+        List.of(first, second, third).forEach(server -> stubUser(server, 0));
+        UserServiceLoadBalancer loadBalancer = loadBalancer(false, first, second, third);
+
+        for (int i = 0; i < 30; i++) {
+            fetch(loadBalancer).block(Duration.ofSeconds(5));
+        }
+
+        assertThat(requestCount(first)).isGreaterThan(0);
+        assertThat(requestCount(second)).isGreaterThan(0);
+        assertThat(requestCount(third)).isGreaterThan(0);
+    }
+
+    @Test
+    void hedgedRequestsRouteAroundSlowReplica() {
+        stubUser(first, 2_000);
+        stubUser(second, 0);
+        UserServiceLoadBalancer loadBalancer = loadBalancer(true, first, second);
+
+        for (int i = 0; i < 6; i++) {
+            long start = System.nanoTime();
+            Integer status = fetch(loadBalancer).block(Duration.ofSeconds(5));
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(status).isEqualTo(HttpStatus.OK.value());
+            assertThat(elapsedMillis).isLessThan(1_000);
+        }
+    }
+
+    @Test
+    void requestsCanOptOutOfHedging() {
+        stubUser(first, 300);
+        stubUser(second, 300);
+        UserServiceLoadBalancer loadBalancer = loadBalancer(true, first, second);
+
+        Integer status = WebClient.builder()
+                .baseUrl(loadBalancer.getBaseUrl())
+                .filter(loadBalancer)
+                .build()
+                .get()
+                .uri(USER_PATH)
+                .attribute(UserServiceLoadBalancer.NO_HEDGE, true)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(status).isEqualTo(HttpStatus.OK.value());
+        assertThat(requestCount(first) + requestCount(second)).isEqualTo(1);
+    }
+
+    @Test
+    void ejectsReplicaAfterRepeatedFailures() {
+        first.stubFor(get(urlEqualTo(USER_PATH)).willReturn(aResponse().withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())));
+        stubUser(second, 0);
+        UserServiceLoadBalancer loadBalancer = loadBalancer(false, first, second);
+
+        for (int i = 0; i < 20; i++) {
+            fetch(loadBalancer).block(Duration.ofSeconds(5));
+        }
+
+        assertThat(requestCount(first)).isLessThanOrEqualTo(2);
+        assertThat(requestCount(second)).isGreaterThanOrEqualTo(18);
+    }
+
+    @Test
+    void ejectsReplicaThatKeepsLosingToHedges() {
+        stubUser(first, 2_000);
+        stubUser(second, 0);
+        UserServiceLoadBalancer loadBalancer = loadBalancer(true, first, second);
+
+        for (int i = 0; i < 20; i++) {
+            fetch(loadBalancer).block(Duration.ofSeconds(5));
+        }
+
+        assertThat(requestCount(first)).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void hedgedRequestReportsPrimaryErrorWhenEveryReplicaFails() {
+        UserServiceLoadBalancer loadBalancer = loadBalancer(true, first, second);
+        first.stop();
+        second.stop();
+
+        assertThatThrownBy(() -> fetch(loadBalancer).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientRequestException.class);
+    }
+
+    @Test
+    void releasesTheLosingResponseOfAHedgedRace() {
+        stubUser(first, 50);
+        stubUser(second, 50);
+        UserServiceLoadBalancer loadBalancer = new UserServiceLoadBalancer(first.baseUrl() + "," + second.baseUrl(),
+                true, 0.95, Duration.ZERO, 100, Duration.ofMinutes(1));
+        // A leaked loser would keep its connection checked out and exhaust this pool within a few requests.
+        ConnectionProvider pool = ConnectionProvider.builder("hedge-test")
+                .maxConnections(2)
+                .pendingAcquireTimeout(Duration.ofSeconds(2))
+                .build();
+        WebClient client = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool)))
+                .baseUrl(loadBalancer.getBaseUrl())
+                .filter(loadBalancer)
+                .build();
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                Integer status = client.get()
+                        .uri(USER_PATH)
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                        .block(Duration.ofSeconds(5));
+                assertThat(status).isEqualTo(HttpStatus.OK.value());
+            }
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    private static WireMockServer start() {
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        return server;
+    }
+
+    private static void stubUser(WireMockServer server, int delayMillis) {
+        server.stubFor(get(urlEqualTo(USER_PATH))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withFixedDelay(delayMillis)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"username\": \"testuser\"}")));
+    }
+
+    private static UserServiceLoadBalancer loadBalancer(boolean hedging, WireMockServer... servers) {
+        String urls = String.join(",", Arrays.stream(servers).map(WireMockServer::baseUrl).toList());
+        return new UserServiceLoadBalancer(urls, hedging, 0.95, Duration.ofMillis(50), 2, Duration.ofMinutes(1));
+    }
+
+    private static Mono<Integer> fetch(UserServiceLoadBalancer loadBalancer) {
+        return WebClient.builder()
+                .baseUrl(loadBalancer.getBaseUrl())
+                .filter(loadBalancer)
+                .build()
+                .get()
+                .uri(USER_PATH)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+    }
+
+    private static int requestCount(WireMockServer server) {
+        return server.findAll(getRequestedFor(urlEqualTo(USER_PATH))).size();
+    }
+}
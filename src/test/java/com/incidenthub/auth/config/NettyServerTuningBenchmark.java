@@ -0,0 +1,107 @@
+package com.incidenthub.auth.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * Load test comparing reactor-netty defaults on NIO with {@link NettyServerTuning} over HTTP/1.1
+ * and h2c on a login-sized JSON exchange. Run with {@code ./gradlew benchmark}; results are printed, not asserted.
+ */
+@Tag("benchmark")
+class NettyServerTuningBenchmark {
+
+    private static final String LOGIN_BODY = "{\"username\":\"testuser\",\"password\":\"password123\"}";
+    private static final String TOKEN_BODY = "{\"token\":\"" + "x".repeat(180) + "\"}";
+    private static final int CONCURRENCY = 64;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+
+    @Test
+    void tunedServerVersusDefaults() {
+        // The application keeps its default profile on NIO, so the baseline does the same.
+        run("defaults (nio)", server -> server.runOn(HttpResources.get(), false), HttpProtocol.HTTP11);
+
+        LoopResources loops = LoopResources.create("reactor-http", 1, Runtime.getRuntime().availableProcessors(), true);
+        try {
+            NettyServerTuning tuning = new NettyServerTuning(loops, true);
+            String transport = tuning.isNativeTransportActive() ? "native" : "nio, native unavailable";
+            run("tuned http/1.1 (" + transport + ")",
+                    server -> tunedProperties(tuning.apply(server)).protocol(HttpProtocol.HTTP11), HttpProtocol.HTTP11);
+            run("tuned h2c (" + transport + ")",
+                    server -> tunedProperties(tuning.apply(server)).protocol(HttpProtocol.HTTP11, HttpProtocol.H2C),
+                    HttpProtocol.H2C);
+        } finally {
+            loops.dispose();
+        }
+    }
+
+    /**
+     * Mirrors the {@code server.*} settings of {@code application-netty-tuned.properties}, which Spring Boot
+     * would otherwise apply, on a bare server.
+     */
+    private static HttpServer tunedProperties(HttpServer server) {
+        return server
+                .httpRequestDecoder(spec -> spec
+                        .maxInitialLineLength(2048)
+                        .maxHeaderSize(8192)
+                        .initialBufferSize(512))
+                .idleTimeout(Duration.ofSeconds(60))
+                .maxKeepAliveRequests(10_000);
+    }
+
+    private static void run(String label, UnaryOperator<HttpServer> customizer, HttpProtocol clientProtocol) {
+        DisposableServer server = customizer.apply(HttpServer.create().port(0))
+                .route(routes -> routes.post("/api/auth/login", (request, response) -> request.receive()
+                        .aggregate()
+                        .then(response.header("Content-Type", "application/json").sendString(Mono.just(TOKEN_BODY)).then())))
+                .bindNow();
+        ConnectionProvider pool = ConnectionProvider.builder("benchmark").maxConnections(CONCURRENCY).build();
+        try {
+            HttpClient client = HttpClient.create(pool).protocol(clientProtocol).baseUrl("http://localhost:" + server.port());
+            load(client, WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            long[] latencies = load(client, MEASURED_REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            System.out.printf("%s: %.0f req/s, p50 %d us, p99 %d us, p99.9 %d us%n", label, MEASURED_REQUESTS / seconds,
+                    latencies[latencies.length / 2] / 1_000,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000,
+                    latencies[(int) (latencies.length * 0.999)] / 1_000);
+        } finally {
+            pool.disposeLater().block();
+            server.disposeNow();
+        }
+    }
+
+    private static long[] load(HttpClient client, int requests) {
+        long[] latencies = new long[requests];
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    long start = System.nanoTime();
+                    return client.headers(headers -> headers.set("Content-Type", "application/json"))
+                            .post()
+                            .uri("/api/auth/login")
+                            .send(ByteBufFlux.fromString(Mono.just(LOGIN_BODY)))
+                            .responseContent()
+                            .aggregate()
+                            .asString()
+                            .doOnNext(body -> latencies[i] = System.nanoTime() - start);
+                }, CONCURRENCY)
+                .blockLast(Duration.ofMinutes(5));
+        return latencies;
+    }
+}
@@ -0,0 +1,30 @@
+package com.incidenthub.auth.config;
+
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NettyServerTuningTest {
+
+    @Test
+    void nativeTransportIsOnlyOnTheNettyTunedClasspath() {
+        // epoll is excluded from the main and test runtimes; only bootRunNettyTuned/bootJarNettyTuned add it.
+        assertThat(LoopResources.hasNativeSupport()).isFalse();
+    }
+
+    @Test
+    void appliesLoopResourcesWithTheConfiguredTransportPreference() {
+        LoopResources loops = LoopResources.create("test-http", 1, 1, true);
+        try {
+            HttpServer server = new NettyServerTuning(loops, true).apply(HttpServer.create());
+
+            assertThat(server.configuration().loopResources()).isSameAs(loops);
+            assertThat(server.configuration().isPreferNative()).isTrue();
+            assertThat(new NettyServerTuning(loops, true).isNativeTransportActive()).isFalse();
+        } finally {
+            loops.dispose();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.incidenthub.auth.config;
+
+import com.incidenthub.auth.security.RouteAuthorizationTable;
+import com.incidenthub.auth.security.RouteRule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.compile(SecurityConfig.ROUTE_RULES);
+
+    @Test
+    void probesArePublic() {
+        assertThat(table.find(HttpMethod.GET, "/actuator/health").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+        assertThat(table.find(HttpMethod.GET, "/actuator/health/readiness").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+        assertThat(table.find(HttpMethod.GET, "/actuator/health/liveness").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+    }
+
+    @Test
+    void authEndpointsArePublic() {
+        assertThat(table.find(HttpMethod.POST, "/api/auth/login").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+    }
+
+    @Test
+    void profilingRequiresAdmin() {
+        assertThat(table.find(HttpMethod.GET, "/actuator/profiling").isGranted(authenticated("ADMIN"))).isTrue();
+        assertThat(table.find(HttpMethod.GET, "/actuator/profiling/recording").isGranted(authenticated("ADMIN"))).isTrue();
+        assertThat(table.find(HttpMethod.GET, "/actuator/profiling").isGranted(authenticated("OPERATOR"))).isFalse();
+        assertThat(table.find(HttpMethod.GET, "/actuator/profiling/recording").isGranted(authenticated("ANALYST"))).isFalse();
+    }
+
+    @Test
+    void everythingElseRequiresAuthentication() {
+        assertThat(table.find(HttpMethod.GET, "/actuator/metrics").getAccess()).isEqualTo(RouteRule.Access.AUTHENTICATED);
+        assertThat(table.find(HttpMethod.GET, "/api/users").getAccess()).isEqualTo(RouteRule.Access.AUTHENTICATED);
+    }
+
+    private static Authentication authenticated(String role) {
+        return new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_" + role));
+    }
+}
@@ -0,0 +1,62 @@
+package com.incidenthub.auth.config;
+
+import com.incidenthub.auth.tracing.InMemorySpanExporter;
+import com.incidenthub.auth.tracing.Stage;
+import com.incidenthub.auth.tracing.Trace;
+import com.incidenthub.auth.tracing.Tracer;
+import com.incidenthub.auth.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.WebFilterChainProxy;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+class SecurityConfigTracingTest {
+
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    private final JwtUtil jwtUtil = new JwtUtil("ThisIsASecureTestSecretKey1234567890", 60_000, "standard");
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        SecurityConfig securityConfig = new SecurityConfig(jwtUtil, new Tracer(1.0, exporter));
+        client = WebTestClient
+                .bindToRouterFunction(RouterFunctions.route(GET("/api/ping"), request -> ServerResponse.ok().bodyValue("pong")))
+                .webFilter(new WebFilterChainProxy(securityConfig.securityWebFilterChain(ServerHttpSecurity.http())))
+                .build();
+    }
+
+    @Test
+    void filterStartsTraceAndRecordsTokenValidation() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "testuser", "OPERATOR");
+
+        client.get().uri("/api/ping")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !exporter.getTraces().isEmpty());
+        Trace trace = exporter.getTraces().get(0);
+        assertThat(trace.getName()).isEqualTo("/api/ping");
+        assertThat(trace.hasStage(Stage.AUTH_FILTER)).isTrue();
+    }
+
+    @Test
+    void requestsWithoutTokenAreTracedWithoutAuthFilterStage() {
+        client.get().uri("/api/ping")
+                .exchange()
+                .expectStatus().is4xxClientError();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !exporter.getTraces().isEmpty());
+        assertThat(exporter.getTraces().get(0).hasStage(Stage.AUTH_FILTER)).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.incidenthub.auth.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrProfilerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Test
+    void aggregateGroupsByStackAndSortsByTotal() {
+        JfrProfiler.SampleWindow window = new JfrProfiler.SampleWindow(100);
+        window.add(new JfrProfiler.Sample(NOW, "a.A.run:1\na.A.main:2", 100));
+        window.add(new JfrProfiler.Sample(NOW, "b.B.run:1", 300));
+        window.add(new JfrProfiler.Sample(NOW, "a.A.run:1\na.A.main:2", 150));
+
+        List<Map<String, Object>> rows = JfrProfiler.aggregate(window, NOW.minusSeconds(60), 10, "bytes");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0))
+                .containsEntry("stack", List.of("b.B.run:1"))
+                .containsEntry("totalBytes", 300L)
+                .containsEntry("samples", 1L)
+                .containsEntry("maxBytes", 300L);
+        assertThat(rows.get(1))
+                .containsEntry("stack", List.of("a.A.run:1", "a.A.main:2"))
+                .containsEntry("totalBytes", 250L)
+                .containsEntry("samples", 2L)
+                .containsEntry("maxBytes", 150L);
+    }
+
+    @Test
+    void aggregateLimitsToTopEntries() {
+        JfrProfiler.SampleWindow window = new JfrProfiler.SampleWindow(100);
+        for (int i = 0; i < 5; i++) {
+            window.add(new JfrProfiler.Sample(NOW, "stack" + i, i));
+        }
+
+        List<Map<String, Object>> rows = JfrProfiler.aggregate(window, NOW.minusSeconds(60), 2, "nanos");
+
+        assertThat(rows).extracting(row -> row.get("totalNanos")).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void samplesOlderThanTheWindowAreEvicted() {
+        JfrProfiler.SampleWindow window = new JfrProfiler.SampleWindow(100);
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(600), "old", 1_000));
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(10), "recent", 1));
+
+        List<Map<String, Object>> rows = JfrProfiler.aggregate(window, NOW.minusSeconds(300), 10, "bytes");
+
+        assertThat(rows).extracting(row -> row.get("stack")).containsExactly(List.of("recent"));
+        assertThat(window.size()).isEqualTo(1);
+    }
+
+    @Test
+    void windowDropsOldestSamplesBeyondItsCap() {
+        JfrProfiler.SampleWindow window = new JfrProfiler.SampleWindow(3);
+        for (int i = 0; i < 5; i++) {
+            window.add(new JfrProfiler.Sample(NOW.plusSeconds(i), "stack" + i, i));
+        }
+
+        assertThat(window.size()).isEqualTo(3);
+        assertThat(JfrProfiler.aggregate(window, NOW.minusSeconds(60), 10, "bytes"))
+                .extracting(row -> row.get("stack"))
+                .containsExactlyInAnyOrder(List.of("stack2"), List.of("stack3"), List.of("stack4"));
+    }
+
+    @Test
+    void recentPausesAreTheLongestWithinTheWindow() {
+        JfrProfiler.SampleWindow window = new JfrProfiler.SampleWindow(100);
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(600), "G1 Old", 900_000_000));
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(20), "G1 Young", 2_000_000));
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(10), "G1 Young", 5_000_000));
+        window.add(new JfrProfiler.Sample(NOW.minusSeconds(5), "G1 Young", 1_000_000));
+
+        List<Map<String, Object>> pauses = JfrProfiler.recentPauses(window, NOW.minusSeconds(300), 2);
+
+        assertThat(pauses).extracting(row -> row.get("pauseNanos")).containsExactly(5_000_000L, 2_000_000L);
+        assertThat(pauses.get(0))
+                .containsEntry("collector", "G1 Young")
+                .containsEntry("time", NOW.minusSeconds(10).toString());
+    }
+}
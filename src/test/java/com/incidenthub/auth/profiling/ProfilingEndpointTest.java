@@ -0,0 +1,50 @@
+package com.incidenthub.auth.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfilingEndpointTest {
+
+    private final JfrProfiler profiler =
+            new JfrProfiler(Duration.ofMinutes(1), Duration.ofMillis(10), Duration.ofMillis(20), "reactor-http-");
+    private final ProfilingEndpoint endpoint = new ProfilingEndpoint(profiler);
+
+    @BeforeEach
+    void setUp() {
+        profiler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.stop();
+    }
+
+    @Test
+    void recordingIsStreamedAndDeletedOnceRead() throws Exception {
+        WebEndpointResponse<Resource> response = endpoint.recording("recording");
+        Resource recording = response.getBody();
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(recording.exists()).isTrue();
+        long length = recording.contentLength();
+        assertThat(length).isPositive();
+
+        try (InputStream in = recording.getInputStream()) {
+            assertThat(in.readAllBytes()).hasSize((int) length);
+        }
+        assertThat(recording.exists()).isFalse();
+    }
+
+    @Test
+    void unknownSelectorIsNotFound() throws Exception {
+        assertThat(endpoint.recording("other").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
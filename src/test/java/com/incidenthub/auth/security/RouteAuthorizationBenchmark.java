@@ -0,0 +1,95 @@
+package com.incidenthub.auth.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares the compiled route trie against evaluating the same rules one {@link PathPattern} at a
+ * time, which is what a chain of {@code pathMatchers} does. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class RouteAuthorizationBenchmark {
+
+    private static final int RULES = 500;
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 2_000_000;
+
+    @Test
+    void trieVersusLinearPatternMatching() {
+        List<RouteRule> rules = new ArrayList<>();
+        List<PathPattern> patterns = new ArrayList<>();
+        PathPatternParser parser = new PathPatternParser();
+        for (int i = 0; i < RULES; i++) {
+            String pattern = "/api/service" + (i / 10) + "/resource" + i + "/*";
+            rules.add(RouteRule.hasAnyRole(pattern, "ADMIN", "ANALYST"));
+            patterns.add(parser.parse(pattern));
+        }
+        rules.add(RouteRule.authenticated("/**"));
+        patterns.add(parser.parse("/**"));
+
+        RouteAuthorizationTable table = RouteAuthorizationTable.compile(rules);
+        String[] paths = new String[64];
+        for (int i = 0; i < paths.length; i++) {
+            int rule = (i * 7919) % (RULES + 20);
+            paths[i] = "/api/service" + (rule / 10) + "/resource" + rule + "/" + i;
+        }
+
+        long trieNanos = measure(() -> {
+            int hits = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                hits += table.find(HttpMethod.GET, paths[i & 63]).getAccess().ordinal();
+            }
+            return hits;
+        }, () -> {
+            int hits = 0;
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                hits += table.find(HttpMethod.GET, paths[i & 63]).getAccess().ordinal();
+            }
+            return hits;
+        });
+
+        PathContainer[] containers = new PathContainer[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            containers[i] = PathContainer.parsePath(paths[i]);
+        }
+        int linearRounds = MEASURED_ROUNDS / 20;
+        long linearNanos = measure(() -> linear(patterns, containers, linearRounds),
+                () -> linear(patterns, containers, WARMUP_ROUNDS / 20));
+
+        System.out.printf("route authorization with %d rules: trie %.1f ns/op, linear PathPattern %.1f ns/op%n",
+                RULES + 1, (double) trieNanos / MEASURED_ROUNDS, (double) linearNanos / linearRounds);
+    }
+
+    private static int linear(List<PathPattern> patterns, PathContainer[] containers, int rounds) {
+        int hits = 0;
+        for (int i = 0; i < rounds; i++) {
+            PathContainer path = containers[i & 63];
+            for (int p = 0; p < patterns.size(); p++) {
+                if (patterns.get(p).matches(path)) {
+                    hits += p;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static long measure(IntSupplier measured, IntSupplier warmup) {
+        int sink = warmup.getAsInt();
+        long start = System.nanoTime();
+        sink += measured.getAsInt();
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println();
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,70 @@
+package com.incidenthub.auth.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteAuthorizationManagerTest {
+
+    private final RouteAuthorizationManager manager = new RouteAuthorizationManager(List.of(
+            RouteRule.permitAll("/api/auth/**"),
+            RouteRule.hasAnyRole("/actuator/profiling/**", "ADMIN"),
+            RouteRule.authenticated("/**")
+    ));
+
+    @Test
+    void matchesRulesAgainstPathWithinApplication() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/auth-service/api/auth/login").contextPath("/auth-service"));
+
+        AuthorizationDecision decision = manager.check(Mono.<Authentication>empty(), new AuthorizationContext(exchange))
+                .block();
+
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    void deniesAnonymousRequestsToAuthenticatedRoutes() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users"));
+
+        AuthorizationDecision decision = manager.check(Mono.<Authentication>empty(), new AuthorizationContext(exchange))
+                .block();
+
+        assertThat(decision.isGranted()).isFalse();
+    }
+
+    @Test
+    void matchesRulesAgainstDecodedSegments() {
+        assertThat(check("/actuator/%70rofiling/recording", "OPERATOR").isGranted()).isFalse();
+        assertThat(check("/actuator/%70rofiling/recording", "ADMIN").isGranted()).isTrue();
+        assertThat(check("/actuator/profiling;a=b/recording", "ANALYST").isGranted()).isFalse();
+        assertThat(check("/api/%61uth/login", null).isGranted()).isTrue();
+    }
+
+    @Test
+    void deniesEncodedSeparators() {
+        assertThat(check("/api/auth%2F..%2Fusers", "ADMIN").isGranted()).isFalse();
+    }
+
+    private AuthorizationDecision check(String rawPath, String role) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.method(HttpMethod.GET, URI.create(rawPath)));
+        Mono<Authentication> authentication = role == null
+                ? Mono.empty()
+                : Mono.just(new UsernamePasswordAuthenticationToken("user", null,
+                        AuthorityUtils.createAuthorityList("ROLE_" + role)));
+        return manager.check(authentication, new AuthorizationContext(exchange)).block();
+    }
+}
@@ -0,0 +1,68 @@
+package com.incidenthub.auth.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteAuthorizationTableTest {
+
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.compile(List.of(
+            RouteRule.permitAll("/api/auth/**"),
+            RouteRule.hasAnyRole(HttpMethod.DELETE, "/api/incidents/*", "ADMIN"),
+            RouteRule.hasAnyRole("/api/incidents/**", "ADMIN", "ANALYST", "OPERATOR"),
+            RouteRule.denyAll("/internal/**"),
+            RouteRule.authenticated("/**")
+    ));
+
+    @Test
+    void firstMatchingRuleWins() {
+        assertThat(table.find(HttpMethod.POST, "/api/auth/login").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+        assertThat(table.find(HttpMethod.POST, "/api/auth").getAccess()).isEqualTo(RouteRule.Access.PERMIT_ALL);
+        assertThat(table.find(HttpMethod.GET, "/internal/metrics").getAccess()).isEqualTo(RouteRule.Access.DENY_ALL);
+        assertThat(table.find(HttpMethod.GET, "/api/users/1").getAccess()).isEqualTo(RouteRule.Access.AUTHENTICATED);
+        assertThat(table.find(HttpMethod.GET, "/").getAccess()).isEqualTo(RouteRule.Access.AUTHENTICATED);
+    }
+
+    @Test
+    void methodSpecificRulesOnlyApplyToTheirMethod() {
+        Authentication analyst = authenticated("ANALYST");
+        Authentication admin = authenticated("ADMIN");
+
+        assertThat(table.find(HttpMethod.DELETE, "/api/incidents/42").isGranted(analyst)).isFalse();
+        assertThat(table.find(HttpMethod.DELETE, "/api/incidents/42").isGranted(admin)).isTrue();
+        assertThat(table.find(HttpMethod.GET, "/api/incidents/42").isGranted(analyst)).isTrue();
+        assertThat(table.find(HttpMethod.DELETE, "/api/incidents/42/comments").isGranted(analyst)).isTrue();
+    }
+
+    @Test
+    void roleRulesRequireAMatchingAuthority() {
+        assertThat(table.find(HttpMethod.GET, "/api/incidents").isGranted(authenticated("GUEST"))).isFalse();
+        assertThat(table.find(HttpMethod.GET, "/api/incidents").isGranted(null)).isFalse();
+    }
+
+    @Test
+    void unmatchedPathsAreDenied() {
+        RouteAuthorizationTable narrow = RouteAuthorizationTable.compile(List.of(RouteRule.permitAll("/api/auth/**")));
+
+        assertThat(narrow.find(HttpMethod.GET, "/api/users").getAccess()).isEqualTo(RouteRule.Access.DENY_ALL);
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThatThrownBy(() -> RouteAuthorizationTable.compile(List.of(RouteRule.permitAll("/api/**/users"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteAuthorizationTable.compile(List.of(RouteRule.permitAll("/static/*.js"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Authentication authenticated(String role) {
+        return new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_" + role));
+    }
+}
@@ -4,6 +4,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.incidenthub.auth.TestcontainersConfiguration;
 import com.incidenthub.auth.WebClientTestConfig;
 import com.incidenthub.auth.WireMockConfig;
+import com.incidenthub.auth.audit.LoginAuditor;
 import com.incidenthub.auth.dto.LoginRequestDTO;
 import com.incidenthub.auth.dto.UserDTO;
 import com.incidenthub.auth.model.User;
@@ -49,6 +50,9 @@ class AuthServiceIntegrationTest {
 
     @Autowired
     private R2dbcEntityTemplate r2dbcEntityTemplate;  // Add this field
+
+    @Autowired
+    private LoginAuditor loginAuditor;
     private UserDTO userDTO;
     private LoginRequestDTO loginRequestDTO;
     private User user;
@@ -194,6 +198,69 @@ class AuthServiceIntegrationTest {
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/users/username/testuser")));
     }
 
+    @Test
+    void loginWritesAuditRecord() {
+        String responseJson = """
+        {
+            "id": "%s",
+            "username": "audituser",
+            "email": "audit@example.com",
+            "password": "%s",
+            "role": "OPERATOR",
+            "createdAt": "%s"
+        }
+        """.formatted(user.getId(), user.getPassword(), user.getCreatedAt().toString());
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/users/username/audituser"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(responseJson)));
+        loginRequestDTO.setUsername("audituser");
+
+        StepVerifier.create(authService.login(loginRequestDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+        loginAuditor.flush().block();
+
+        // Assert the success row was written by the batch insert
+        StepVerifier.create(r2dbcEntityTemplate.getDatabaseClient()
+                        .sql("SELECT COUNT(*) AS total FROM login_audit WHERE username = 'audituser' AND success")
+                        .map(row -> row.get("total", Long.class))
+                        .one())
+                .expectNextMatches(total -> total >= 1)
+                .verifyComplete();
+    }
+
+    @Test
+    void failedLoginWritesAuditRecord() {
+        wireMockServer.stubFor(get(urlEqualTo("/api/users/username/auditfailure"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("{\"error\": \"User not found\"}")));
+        loginRequestDTO.setUsername("auditfailure");
+
+        StepVerifier.create(authService.login(loginRequestDTO))
+                .expectError(RuntimeException.class)
+                .verify();
+        // An over-long reason must not cost the rest of the batch its rows
+        loginAuditor.record("auditoverlong", false, "x".repeat(2_000));
+        loginAuditor.flush().block();
+
+        StepVerifier.create(r2dbcEntityTemplate.getDatabaseClient()
+                        .sql("SELECT reason FROM login_audit WHERE username = 'auditfailure' AND NOT success")
+                        .map(row -> row.get("reason", String.class))
+                        .all())
+                .expectNext("User not found")
+                .verifyComplete();
+        StepVerifier.create(r2dbcEntityTemplate.getDatabaseClient()
+                        .sql("SELECT LENGTH(reason) AS width FROM login_audit WHERE username = 'auditoverlong'")
+                        .map(row -> row.get("width", Integer.class))
+                        .one())
+                .expectNext(255)
+                .verifyComplete();
+    }
 
     @Test
     void loginInvalidUsername() {
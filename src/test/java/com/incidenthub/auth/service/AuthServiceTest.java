@@ -1,8 +1,14 @@
 package com.incidenthub.auth.service;
 
+import com.incidenthub.auth.audit.LoginAuditor;
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
 import com.incidenthub.auth.dto.LoginRequestDTO;
 import com.incidenthub.auth.dto.UserDTO;
 import com.incidenthub.auth.model.User;
+import com.incidenthub.auth.tracing.InMemorySpanExporter;
+import com.incidenthub.auth.tracing.Stage;
+import com.incidenthub.auth.tracing.Trace;
+import com.incidenthub.auth.tracing.Tracer;
 import com.incidenthub.auth.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +23,7 @@ import reactor.test.StepVerifier;
 import java.time.Instant;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -50,6 +57,18 @@ class AuthServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Mock
+    private KnownUserIndex knownUserIndex;
+
+    @Mock
+    private UserServiceLoadBalancer loadBalancer;
+
+    @Mock
+    private LoginAuditor loginAuditor;
+
+    @Mock
+    private VerifiedCredentialCache credentialCache;
+
     private AuthService authService;
 
     private UserDTO userDTO;
@@ -78,16 +97,21 @@ class AuthServiceTest {
         user.setCreatedAt(Instant.now());
 
         // Mock WebClient.Builder behavior
+        when(loadBalancer.getBaseUrl()).thenReturn("http://localhost:8080");
         when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
+        when(webClientBuilder.filter(loadBalancer)).thenReturn(webClientBuilder);
         when(webClientBuilder.build()).thenReturn(webClient);
 
         // Create AuthService with the properly mocked builder
-        authService = new AuthService(jwtUtil, passwordEncoder, webClientBuilder, "http://localhost:8080");
+        authService = new AuthService(jwtUtil, passwordEncoder, webClientBuilder, loadBalancer, knownUserIndex,
+                new Tracer(0.0, trace -> { }), loginAuditor,
+                credentialCache);
     }
 
     @Test
     void register_success() {
         // Arrange
+        when(knownUserIndex.isTaken("testuser", "test@example.com")).thenReturn(Mono.just(false));
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri("/api/users")).thenReturn(requestBodyUriSpec);
@@ -107,11 +131,30 @@ class AuthServiceTest {
 
         verify(passwordEncoder).encode("password123");
         verify(webClient).post();
+        verify(knownUserIndex).add("testuser", "test@example.com");
+    }
+
+    @Test
+    void register_duplicateSkipsHashing() {
+        // Arrange
+        when(knownUserIndex.isTaken("testuser", "test@example.com")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(authService.register(userDTO))
+                .expectErrorMatches(throwable ->
+                        throwable instanceof IllegalArgumentException &&
+                                throwable.getMessage().equals("User already exists")
+                )
+                .verify();
+
+        verifyNoInteractions(passwordEncoder);
+        verify(webClient, never()).post();
     }
 
     @Test
     void register_userServiceFailure() {
         // Arrange
+        when(knownUserIndex.isTaken("testuser", "test@example.com")).thenReturn(Mono.just(false));
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri("/api/users")).thenReturn(requestBodyUriSpec);
@@ -157,6 +200,64 @@ class AuthServiceTest {
         verify(passwordEncoder).matches("password123", "encodedPassword");
         verify(jwtUtil).generateToken(user.getId(), "testuser", "OPERATOR");
         verify(webClient).get();
+        verify(loginAuditor).record("testuser", true, null);
+        verify(credentialCache).remember("testuser", "encodedPassword", "password123");
+    }
+
+    @Test
+    void login_cachedCredentialsSkipPasswordCheck() {
+        // Arrange
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(
+                eq("/api/users/username/{username}"),
+                eq("testuser")
+        )).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(User.class)).thenReturn(Mono.just(user));
+        when(credentialCache.isVerified("testuser", "encodedPassword", "password123")).thenReturn(true);
+        when(jwtUtil.generateToken(user.getId(), "testuser", "OPERATOR")).thenReturn("jwt.token.here");
+
+        // Act & Assert
+        StepVerifier.create(authService.login(loginRequestDTO))
+                .expectNextMatches(response -> response.getToken().equals("jwt.token.here"))
+                .verifyComplete();
+
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void login_recordsStageBreakdown() {
+        // Arrange
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        AuthService tracedService = new AuthService(jwtUtil, passwordEncoder, webClientBuilder,
+                loadBalancer, knownUserIndex, new Tracer(1.0, exporter), loginAuditor,
+                credentialCache);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(
+                eq("/api/users/username/{username}"),
+                eq("testuser")
+        )).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(User.class)).thenReturn(Mono.just(user));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(jwtUtil.generateToken(user.getId(), "testuser", "OPERATOR")).thenReturn("jwt.token.here");
+
+        // Act
+        StepVerifier.create(tracedService.login(loginRequestDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        assertThat(exporter.getTraces()).hasSize(1);
+        Trace trace = exporter.getTraces().get(0);
+        assertThat(trace.getName()).isEqualTo("login");
+        assertThat(trace.hasStage(Stage.QUEUE)).isTrue();
+        assertThat(trace.hasStage(Stage.USER_SERVICE)).isTrue();
+        assertThat(trace.hasStage(Stage.PASSWORD_VERIFY)).isTrue();
+        assertThat(trace.hasStage(Stage.TOKEN_SIGN)).isTrue();
+        assertThat(trace.hasStage(Stage.PASSWORD_HASH)).isFalse();
     }
 
     @Test
@@ -209,5 +310,6 @@ class AuthServiceTest {
         verify(passwordEncoder).matches("password123", "encodedPassword");
         verify(webClient).get();
         verifyNoInteractions(jwtUtil);
+        verify(loginAuditor).record("testuser", false, "Invalid credentials");
     }
 }
\ No newline at end of file
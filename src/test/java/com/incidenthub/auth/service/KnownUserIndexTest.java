@@ -0,0 +1,57 @@
+package com.incidenthub.auth.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.awaitility.Awaitility.await;
+
+class KnownUserIndexTest {
+
+    private static final String SEED_PATH = "/api/users/identities";
+
+    private WireMockServer userService;
+    private KnownUserIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userService = new WireMockServer(wireMockConfig().dynamicPort());
+        userService.start();
+        UserServiceLoadBalancer loadBalancer = new UserServiceLoadBalancer(userService.baseUrl(),
+                false, 0.95, Duration.ofMillis(20), 5, Duration.ofSeconds(30));
+        index = new KnownUserIndex(WebClient.builder(), loadBalancer, 1_000, 0.01, true, SEED_PATH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.stop();
+    }
+
+    @Test
+    void seedsFromUsernameEmailProjection() {
+        userService.stubFor(get(urlEqualTo(SEED_PATH))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"username\": \"alice\", \"email\": \"Alice@example.com\"}]")));
+        userService.stubFor(head(urlEqualTo("/api/users/username/alice")).willReturn(aResponse().withStatus(200)));
+
+        index.run(new DefaultApplicationArguments());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                StepVerifier.create(index.isTaken("alice", "new@example.com"))
+                        .expectNext(true)
+                        .verifyComplete());
+        StepVerifier.create(index.isTaken("bob", "bob@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,60 @@
+package com.incidenthub.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedCredentialCacheTest {
+
+    @Test
+    void remembersVerifiedCredentials() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(true, Duration.ofMinutes(1), 100);
+
+        cache.remember("ci-bot", "$2a$10$hash", "secret");
+
+        assertThat(cache.isVerified("ci-bot", "$2a$10$hash", "secret")).isTrue();
+        assertThat(cache.isVerified("ci-bot", "$2a$10$hash", "wrong")).isFalse();
+        assertThat(cache.isVerified("other", "$2a$10$hash", "secret")).isFalse();
+    }
+
+    @Test
+    void storedHashChangeInvalidatesEntry() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(true, Duration.ofMinutes(1), 100);
+
+        cache.remember("ci-bot", "$2a$10$old", "secret");
+
+        assertThat(cache.isVerified("ci-bot", "$2a$10$new", "secret")).isFalse();
+    }
+
+    @Test
+    void entriesExpireAfterTtl() throws InterruptedException {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(true, Duration.ofMillis(20), 100);
+
+        cache.remember("ci-bot", "$2a$10$hash", "secret");
+        Thread.sleep(50);
+
+        assertThat(cache.isVerified("ci-bot", "$2a$10$hash", "secret")).isFalse();
+    }
+
+    @Test
+    void sizeIsBounded() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(true, Duration.ofMinutes(1), 2);
+
+        cache.remember("a", "hash", "secret");
+        cache.remember("b", "hash", "secret");
+        cache.remember("c", "hash", "secret");
+
+        assertThat(cache.isVerified("c", "hash", "secret")).isFalse();
+    }
+
+    @Test
+    void disabledCacheNeverHits() {
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(false, Duration.ofMinutes(1), 100);
+
+        cache.remember("ci-bot", "$2a$10$hash", "secret");
+
+        assertThat(cache.isVerified("ci-bot", "$2a$10$hash", "secret")).isFalse();
+    }
+}
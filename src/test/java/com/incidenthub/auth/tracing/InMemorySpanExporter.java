@@ -0,0 +1,22 @@
+package com.incidenthub.auth.tracing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final List<Trace> traces = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void export(Trace trace) {
+        traces.add(trace);
+    }
+
+    public List<Trace> getTraces() {
+        return traces;
+    }
+
+    public void reset() {
+        traces.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package com.incidenthub.auth.tracing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    private InMemorySpanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new InMemorySpanExporter();
+    }
+
+    @Test
+    void recordsStageBreakdown() {
+        Tracer tracer = new Tracer(1.0, exporter);
+
+        Mono<String> pipeline = tracer.stage(Stage.USER_SERVICE, Mono.delay(Duration.ofMillis(20)).thenReturn("user"))
+                .flatMap(user -> tracer.stage(Stage.TOKEN_SIGN, Mono.just("token")));
+
+        StepVerifier.create(tracer.trace("login", pipeline))
+                .expectNext("token")
+                .verifyComplete();
+
+        assertThat(exporter.getTraces()).hasSize(1);
+        Trace trace = exporter.getTraces().get(0);
+        assertThat(trace.getName()).isEqualTo("login");
+        assertThat(trace.hasStage(Stage.USER_SERVICE)).isTrue();
+        assertThat(trace.hasStage(Stage.TOKEN_SIGN)).isTrue();
+        assertThat(trace.hasStage(Stage.PASSWORD_VERIFY)).isFalse();
+        assertThat(trace.getStageNanos(Stage.USER_SERVICE)).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+        assertThat(trace.getDurationNanos()).isGreaterThanOrEqualTo(trace.getStageNanos(Stage.USER_SERVICE));
+    }
+
+    @Test
+    void nestedTraceJoinsOuterTrace() {
+        Tracer tracer = new Tracer(1.0, exporter);
+
+        Mono<String> inner = tracer.trace("login", tracer.stage(Stage.TOKEN_SIGN, Mono.just("token")));
+
+        StepVerifier.create(tracer.trace("/api/auth/login", inner))
+                .expectNext("token")
+                .verifyComplete();
+
+        assertThat(exporter.getTraces()).hasSize(1);
+        assertThat(exporter.getTraces().get(0).getName()).isEqualTo("/api/auth/login");
+        assertThat(exporter.getTraces().get(0).hasStage(Stage.TOKEN_SIGN)).isTrue();
+    }
+
+    @Test
+    void unsampledRequestsAreNotExported() {
+        Tracer tracer = new Tracer(0.0, exporter);
+
+        StepVerifier.create(tracer.trace("login", tracer.stage(Stage.TOKEN_SIGN, Mono.just("token"))))
+                .expectNext("token")
+                .verifyComplete();
+
+        assertThat(exporter.getTraces()).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.incidenthub.auth.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compares the standard and compact token profiles on Authorization header size and parse time.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JwtTokenProfileBenchmark {
+
+    private static final String SECRET = "ThisIsASecureTestSecretKey1234567890";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    @Test
+    void standardVersusCompact() {
+        UUID userId = UUID.randomUUID();
+        JwtUtil standard = new JwtUtil(SECRET, 86_400_000, JwtUtil.PROFILE_STANDARD);
+        JwtUtil compact = new JwtUtil(SECRET, 86_400_000, JwtUtil.PROFILE_COMPACT);
+        String standardToken = standard.generateToken(userId, "incident.analyst", "ANALYST");
+        String compactToken = compact.generateToken(userId, "incident.analyst", "ANALYST");
+
+        int standardHeader = headerBytes(standardToken);
+        int compactHeader = headerBytes(compactToken);
+        double standardParse = parseNanos(standard, standardToken);
+        double compactParse = parseNanos(compact, compactToken);
+
+        System.out.printf("standard: %d header bytes, %.0f ns/parse%n", standardHeader, standardParse);
+        System.out.printf("compact:  %d header bytes, %.0f ns/parse%n", compactHeader, compactParse);
+        System.out.printf("delta:    %d bytes (%.1f%%), %.0f ns/parse%n", compactHeader - standardHeader,
+                100.0 * (compactHeader - standardHeader) / standardHeader, compactParse - standardParse);
+    }
+
+    private static int headerBytes(String token) {
+        return ("Authorization: Bearer " + token + "\r\n").getBytes(StandardCharsets.US_ASCII).length;
+    }
+
+    private static double parseNanos(JwtUtil jwtUtil, String token) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += jwtUtil.parseToken(token).getVersion();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += jwtUtil.parseToken(token).getVersion();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println();
+        }
+        return (double) elapsed / MEASURED_ROUNDS;
+    }
+}
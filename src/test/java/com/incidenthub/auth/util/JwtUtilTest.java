@@ -0,0 +1,58 @@
+package com.incidenthub.auth.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "ThisIsASecureTestSecretKey1234567890";
+
+    private final JwtUtil standard = new JwtUtil(SECRET, 60_000, JwtUtil.PROFILE_STANDARD);
+    private final JwtUtil compact = new JwtUtil(SECRET, 60_000, JwtUtil.PROFILE_COMPACT);
+
+    @Test
+    void bothProfilesParseToTheSameClaims() {
+        UUID userId = UUID.randomUUID();
+
+        TokenClaims fromStandard = compact.parseToken(standard.generateToken(userId, "testuser", "OPERATOR"));
+        TokenClaims fromCompact = standard.parseToken(compact.generateToken(userId, "testuser", "OPERATOR"));
+
+        assertThat(fromStandard.getVersion()).isEqualTo(1);
+        assertThat(fromCompact.getVersion()).isEqualTo(2);
+        assertThat(fromCompact.getUserId()).isEqualTo(fromStandard.getUserId()).isEqualTo(userId);
+        assertThat(fromCompact.getUsername()).isEqualTo(fromStandard.getUsername()).isEqualTo("testuser");
+        assertThat(fromCompact.getRole()).isEqualTo(fromStandard.getRole()).isEqualTo("OPERATOR");
+    }
+
+    @Test
+    void compactTokensAreShorter() {
+        UUID userId = UUID.randomUUID();
+
+        assertThat(compact.generateToken(userId, "testuser", "ANALYST").length())
+                .isLessThan(standard.generateToken(userId, "testuser", "ANALYST").length());
+    }
+
+    @Test
+    void compactProfileKeepsRolesOutsideTheCodeTable() {
+        UUID userId = UUID.randomUUID();
+
+        assertThat(compact.parseToken(compact.generateToken(userId, "testuser", "AUDITOR")).getRole()).isEqualTo("AUDITOR");
+    }
+
+    @Test
+    void getUserIdFromTokenHandlesBothProfiles() {
+        UUID userId = UUID.randomUUID();
+
+        assertThat(standard.getUserIdFromToken(compact.generateToken(userId, "testuser", "ADMIN"))).isEqualTo(userId.toString());
+        assertThat(compact.getUserIdFromToken(standard.generateToken(userId, "testuser", "ADMIN"))).isEqualTo(userId.toString());
+    }
+
+    @Test
+    void rejectsUnknownProfile() {
+        assertThatThrownBy(() -> new JwtUtil(SECRET, 60_000, "tiny")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.incidenthub.auth.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.incidenthub.auth.client.UserServiceLoadBalancer;
+import com.incidenthub.auth.util.JwtUtil;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WarmupRunnerTest {
+
+    private static final String HEALTH_PATH = "/actuator/health";
+
+    private WireMockServer first;
+    private WireMockServer second;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordEncoder passwordEncoder;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        first = start();
+        second = start();
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = spy(new BCryptPasswordEncoder(4));
+        jwtUtil = spy(new JwtUtil("ThisIsASecureTestSecretKey1234567890", 60_000, "standard"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.of(first, second).forEach(WireMockServer::stop);
+    }
+
+    @Test
+    void runExercisesPasswordTokenAndConnectionStages() {
+        warmupRunner(3, 5, 2).run(new DefaultApplicationArguments());
+
+        // Three warm-up rounds plus one post-warm-up latency probe
+        verify(passwordEncoder, times(4)).matches(anyString(), anyString());
+        verify(jwtUtil, atLeast(5)).generateToken(any(), anyString(), anyString());
+        verify(jwtUtil, atLeast(5)).parseToken(anyString());
+        assertThat(first.findAll(getRequestedFor(urlEqualTo(HEALTH_PATH)))).hasSize(2);
+        assertThat(second.findAll(getRequestedFor(urlEqualTo(HEALTH_PATH)))).hasSize(2);
+    }
+
+    @Test
+    void runRecordsWarmupTimers() {
+        warmupRunner(1, 1, 1).run(new DefaultApplicationArguments());
+
+        Timer duration = meterRegistry.find("auth.warmup.duration").timer();
+        assertThat(duration).isNotNull();
+        assertThat(duration.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("auth.warmup.post.latency").timers())
+                .extracting(timer -> timer.getId().getTag("stage"))
+                .containsExactlyInAnyOrder("password.matches", "token.generate", "token.validate");
+    }
+
+    @Test
+    void runToleratesUnreachableReplicas() {
+        WarmupRunner warmupRunner = warmupRunner(1, 1, 2);
+        first.stop();
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        assertThat(second.findAll(getRequestedFor(urlEqualTo(HEALTH_PATH)))).hasSize(2);
+        assertThat(meterRegistry.find("auth.warmup.duration").timer()).isNotNull();
+    }
+
+    private WarmupRunner warmupRunner(int passwordIterations, int iterations, int connections) {
+        UserServiceLoadBalancer loadBalancer = new UserServiceLoadBalancer(first.baseUrl() + "," + second.baseUrl(),
+                false, 0.95, Duration.ofMillis(20), 5, Duration.ofSeconds(30));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new WarmupRunner(jwtUtil, passwordEncoder, objectMapper, meterRegistry, WebClient.builder(),
+                loadBalancer, iterations, passwordIterations, connections, HEALTH_PATH, Duration.ofSeconds(5));
+    }
+
+    private static WireMockServer start() {
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        server.stubFor(get(urlEqualTo(HEALTH_PATH)).willReturn(aResponse().withStatus(200)));
+        return server;
+    }
+}